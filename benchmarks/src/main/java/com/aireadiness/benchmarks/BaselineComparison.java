@@ -0,0 +1,133 @@
+package com.aireadiness.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a baseline and writes a JSON report.
+ *
+ * A benchmark counts as regressed when it is worse than the baseline by more than the
+ * threshold (default 10%) and by more than the two runs' combined error, so ordinary
+ * noise does not fail a build. Exits with status 1 when anything regressed.
+ *
+ * Usage: BaselineComparison baseline.json current.json [--threshold 10] [--output report.json]
+ */
+public final class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison baseline.json current.json [--threshold 10] [--output report.json]");
+            System.exit(2);
+        }
+        double thresholdPercent = 10.0;
+        Path output = Path.of("benchmark-comparison.json");
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--threshold" -> thresholdPercent = Double.parseDouble(args[i + 1]);
+                case "--output" -> output = Path.of(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        ObjectNode report = compare(load(Path.of(args[0])), load(Path.of(args[1])), thresholdPercent);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+
+        for (JsonNode row : report.get("benchmarks")) {
+            System.out.printf("%-11s %-70s %s%n", row.get("status").asText(), row.get("benchmark").asText(),
+                    row.has("changePercent") ? String.format("%+.1f%%", row.get("changePercent").asDouble()) : "");
+        }
+        int regressions = report.get("regressions").asInt();
+        System.out.printf("%d regression(s) beyond %.1f%%, report written to %s%n", regressions, thresholdPercent, output);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    static ObjectNode compare(Map<String, JsonNode> baseline, Map<String, JsonNode> current, double thresholdPercent) {
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("thresholdPercent", thresholdPercent);
+        ArrayNode rows = report.putArray("benchmarks");
+        int regressions = 0;
+
+        Map<String, JsonNode> all = new TreeMap<>(baseline);
+        current.forEach(all::putIfAbsent);
+        for (String key : all.keySet()) {
+            JsonNode before = baseline.get(key);
+            JsonNode after = current.get(key);
+            ObjectNode row = rows.addObject();
+            row.put("benchmark", key);
+            if (before == null || after == null) {
+                row.put("status", before == null ? "NEW" : "MISSING");
+                continue;
+            }
+
+            JsonNode beforeMetric = before.get("primaryMetric");
+            JsonNode afterMetric = after.get("primaryMetric");
+            double baseScore = beforeMetric.get("score").asDouble();
+            double score = afterMetric.get("score").asDouble();
+            double noise = error(beforeMetric) + error(afterMetric);
+            // Throughput modes are better when higher, time modes when lower
+            boolean higherIsBetter = "thrpt".equals(after.get("mode").asText());
+            double worsening = higherIsBetter ? baseScore - score : score - baseScore;
+            double changePercent = baseScore == 0 ? 0 : (score - baseScore) / baseScore * 100.0;
+
+            row.put("mode", after.get("mode").asText());
+            row.put("unit", afterMetric.get("scoreUnit").asText());
+            row.put("baseline", baseScore);
+            row.put("current", score);
+            row.put("changePercent", changePercent);
+
+            boolean significant = Math.abs(changePercent) > thresholdPercent && Math.abs(worsening) > noise;
+            if (significant && worsening > 0) {
+                row.put("status", "REGRESSION");
+                regressions++;
+            } else if (significant) {
+                row.put("status", "IMPROVEMENT");
+            } else {
+                row.put("status", "UNCHANGED");
+            }
+        }
+        report.put("regressions", regressions);
+        return report;
+    }
+
+    /**
+     * JMH results keyed by benchmark name and parameters, e.g. "ScoringBenchmark.compiledPlan{questions=500}"
+     */
+    static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                    .replace(BaselineComparison.class.getPackageName() + ".", ""));
+            JsonNode params = result.get("params");
+            if (params != null && params.size() > 0) {
+                Map<String, String> sorted = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    sorted.put(field.getKey(), field.getValue().asText());
+                }
+                key.append(sorted.toString().replace(", ", ","));
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
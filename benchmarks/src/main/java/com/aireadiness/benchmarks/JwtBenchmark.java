@@ -0,0 +1,54 @@
+package com.aireadiness.benchmarks;
+
+import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService token generation and verification, with and without the verified-token cache
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtTokenGenerationThatIsLongEnough";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 3_600_000, 7_200_000, 10_000);
+        user = new User("alice", "alice@example.com", "password123");
+        user.setId("7f1c3a52-3b0e-4c55-9d7a-1b2c3d4e5f60");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtService.verify(token);
+    }
+
+    /**
+     * Full signature check and claims parse, as on the first request with a token
+     */
+    @Benchmark
+    public String parseUncached() {
+        return jwtService.extractClaim(token, Claims::getSubject);
+    }
+}
@@ -0,0 +1,94 @@
+package com.aireadiness.benchmarks;
+
+import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.report.dto.ReportRequest;
+import com.aireadiness.report.service.ChartRenderer;
+import com.aireadiness.report.service.PdfGenerationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PdfGenerationService rendering into a discarding channel, so disk speed is not measured
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfRenderingBenchmark {
+
+    private PdfGenerationService pdfGenerationService;
+    private Assessment assessment;
+    private AssessmentScore scores;
+    private ReportRequest withoutCharts;
+    private NullChannel channel;
+
+    @Setup
+    public void setUp() {
+        pdfGenerationService = new PdfGenerationService(new ChartRenderer(5, 256, 4), 16384);
+        assessment = new Assessment("a_benchmark", "1", "1", "es-ES", 8);
+        scores = new AssessmentScore("a_benchmark", 61.25, List.of("AI", "PORTFOLIO"), 40);
+        scores.setPillarScore(Pillar.TECH, 78.0);
+        scores.setPillarScore(Pillar.AI, 42.5);
+        scores.setPillarScore(Pillar.COMMUNICATION, 70.0);
+        scores.setPillarScore(Pillar.PORTFOLIO, 55.0);
+        withoutCharts = new ReportRequest();
+        withoutCharts.setIncludeCharts(false);
+        channel = new NullChannel();
+    }
+
+    /**
+     * Steady state: charts come from the quantized chart cache
+     */
+    @Benchmark
+    public long renderWithCachedCharts() throws IOException {
+        pdfGenerationService.writeAssessmentReport(channel, assessment, scores, "Benchmark report", null);
+        return channel.written;
+    }
+
+    /**
+     * Every chart rasterized and compressed again, as for the first report with a score vector
+     */
+    @Benchmark
+    public long renderWithFreshCharts() throws IOException {
+        PdfGenerationService cold = new PdfGenerationService(new ChartRenderer(5, 256, 4), 16384);
+        cold.writeAssessmentReport(channel, assessment, scores, "Benchmark report", null);
+        return channel.written;
+    }
+
+    @Benchmark
+    public long renderTextOnly() throws IOException {
+        pdfGenerationService.writeAssessmentReport(channel, assessment, scores, "Benchmark report", withoutCharts);
+        return channel.written;
+    }
+
+    private static final class NullChannel implements WritableByteChannel {
+        long written;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int remaining = source.remaining();
+            source.position(source.limit());
+            written += remaining;
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Kept open across invocations
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.aireadiness.benchmarks;
+
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.plan.dto.PlanDto;
+import com.aireadiness.plan.service.MockPlanGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MockPlanGenerator.generatePlan for an assessment with gaps in every pillar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlanGeneratorBenchmark {
+
+    private MockPlanGenerator planGenerator;
+    private Map<Pillar, Double> scores;
+    private List<String> gaps;
+
+    @Setup
+    public void setUp() {
+        planGenerator = new MockPlanGenerator();
+        scores = new EnumMap<>(Pillar.class);
+        scores.put(Pillar.TECH, 55.0);
+        scores.put(Pillar.AI, 40.0);
+        scores.put(Pillar.COMMUNICATION, 65.0);
+        scores.put(Pillar.PORTFOLIO, 50.0);
+        gaps = List.of("TECH", "AI", "COMMUNICATION", "PORTFOLIO", "q3", "q7", "q12");
+    }
+
+    @Benchmark
+    public PlanDto generatePlan() {
+        return planGenerator.generatePlan("backend-java", scores, gaps, 8, "es-ES");
+    }
+}
@@ -0,0 +1,51 @@
+package com.aireadiness.benchmarks;
+
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.plan.dto.PlanDto;
+import com.aireadiness.plan.service.MockPlanGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlanDto JSON round trip, as PlanService stores and reads plans
+ * The mapper registers the same modules as the one Spring Boot injects into PlanService
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlanJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PlanDto plan;
+    private String planJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        Map<Pillar, Double> scores = new EnumMap<>(Pillar.class);
+        for (Pillar pillar : Pillar.values()) {
+            scores.put(pillar, 45.0);
+        }
+        plan = new MockPlanGenerator().generatePlan("backend-java", scores, List.of("TECH", "AI", "q3"), 8, "es-ES");
+        planJson = objectMapper.writeValueAsString(plan);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(plan);
+    }
+
+    @Benchmark
+    public PlanDto deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(planJson, PlanDto.class);
+    }
+}
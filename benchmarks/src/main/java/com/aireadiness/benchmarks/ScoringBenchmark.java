@@ -0,0 +1,78 @@
+package com.aireadiness.benchmarks;
+
+import com.aireadiness.assessment.domain.Answer;
+import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.service.ScoringPlan;
+import com.aireadiness.assessment.service.ScoringService;
+import com.aireadiness.catalog.domain.Question;
+import com.aireadiness.catalog.domain.RoleQuestion;
+import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.common.domain.QuestionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScoringService.calculateScores for roles of 10 to 500 questions, both with the
+ * compiled plan used by submissions and with the ad-hoc role question list
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoringBenchmark {
+
+    private static final Pillar[] PILLARS = Pillar.values();
+
+    @Param({"10", "50", "100", "500"})
+    int questions;
+
+    private ScoringService scoringService;
+    private List<RoleQuestion> roleQuestions;
+    private ScoringPlan scoringPlan;
+    private List<Answer> answers;
+
+    @Setup
+    public void setUp() {
+        scoringService = new ScoringService(new SimpleMeterRegistry());
+        RoleVersion roleVersion = new RoleVersion();
+        Assessment assessment = new Assessment();
+        roleQuestions = new ArrayList<>(questions);
+        answers = new ArrayList<>(questions);
+
+        for (int i = 0; i < questions; i++) {
+            // Mostly Likert, as in the seeded roles, with some multiple choice and free text
+            QuestionType type = i % 10 == 9 ? QuestionType.TEXT : i % 5 == 4 ? QuestionType.MULTIPLE : QuestionType.LIKERT;
+            Question question = new Question("Question " + i, type, PILLARS[i % PILLARS.length]);
+            question.setId((long) i + 1);
+            roleQuestions.add(new RoleQuestion(roleVersion, question, 1.0 + (i % 3) * 0.5, i + 1));
+
+            String questionId = String.valueOf(i + 1);
+            answers.add(type == QuestionType.TEXT
+                    ? new Answer(assessment, questionId, null, "Free text answer " + i)
+                    : new Answer(assessment, questionId, 1 + i % 5, null));
+        }
+        scoringPlan = ScoringPlan.compile(1L, roleQuestions);
+    }
+
+    @Benchmark
+    public ScoringService.AssessmentScores compiledPlan() {
+        return scoringService.calculateScores(answers, scoringPlan);
+    }
+
+    @Benchmark
+    public ScoringService.AssessmentScores roleQuestions() {
+        return scoringService.calculateScores(answers, roleQuestions);
+    }
+
+    @Benchmark
+    public ScoringPlan compilePlan() {
+        return ScoringPlan.compile(1L, roleQuestions);
+    }
+}
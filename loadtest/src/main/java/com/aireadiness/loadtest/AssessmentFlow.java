@@ -0,0 +1,168 @@
+package com.aireadiness.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One user journey through the REST API, timing every request:
+ * roles, questions, submit assessment, plan, report request, report status polling and download.
+ *
+ * Endpoint names used in the metrics: roles, questions, submit, plan, report, report-status,
+ * report-ready (request until COMPLETED) and download.
+ */
+final class AssessmentFlow {
+
+    static final Set<String> ENDPOINTS = Set.of(
+            "roles", "questions", "submit", "plan", "report", "report-status", "report-ready", "download");
+
+    private static final long STATUS_POLL_INTERVAL_MS = 250;
+
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final LoadTestOptions options;
+    private final LoadMetrics metrics;
+
+    AssessmentFlow(HttpClient client, ObjectMapper mapper, LoadTestOptions options, LoadMetrics metrics) {
+        this.client = client;
+        this.mapper = mapper;
+        this.options = options;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Run the journey once; a failed step ends it and counts the flow as failed
+     */
+    void run() {
+        try {
+            execute();
+            metrics.flowFinished(true);
+        } catch (FlowException e) {
+            metrics.flowFinished(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void execute() throws FlowException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        JsonNode roles = json(send("roles", get("/api/v1/roles"), 200));
+        if (roles.isEmpty()) {
+            throw new FlowException("No roles published");
+        }
+        JsonNode role = roles.get(random.nextInt(roles.size()));
+        String roleId = role.get("id").asText();
+        String version = role.get("version").asText();
+
+        JsonNode questions = json(send("questions",
+                get("/api/v1/roles/" + roleId + "/questions?version=" + version), 200));
+
+        ObjectNode assessment = mapper.createObjectNode()
+                .put("roleId", roleId)
+                .put("version", version)
+                .put("locale", options.locale())
+                .put("hoursPerWeek", 4 + random.nextInt(12))
+                .put("consent", true);
+        ArrayNode answers = assessment.putArray("answers");
+        for (JsonNode question : questions) {
+            ObjectNode answer = answers.addObject().put("questionId", question.get("id").asText());
+            switch (question.path("type").asText()) {
+                case "TEXT" -> answer.put("text", "Load test answer");
+                case "MULTIPLE" -> answer.put("value", random.nextInt(2));
+                default -> answer.put("value", 1 + random.nextInt(5));
+            }
+        }
+        HttpRequest submit = post("/api/v1/assessments", assessment)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .build();
+        String assessmentId = json(send("submit", submit, 201)).get("assessmentId").asText();
+
+        send("plan", post("/api/v1/assessments/" + assessmentId + "/plan",
+                mapper.createObjectNode().put("hoursPerWeek", 8)).build(), 201);
+
+        long reportRequested = System.nanoTime();
+        String reportId = json(send("report", post("/api/v1/assessments/" + assessmentId + "/report",
+                mapper.createObjectNode().put("title", "Load test").put("includeCharts", true)).build(), 202))
+                .get("reportId").asText();
+        awaitReport(reportId, reportRequested);
+
+        send("download", get("/api/v1/reports/" + reportId + "/download"), 200);
+    }
+
+    private void awaitReport(String reportId, long requestedAt) throws FlowException, InterruptedException {
+        long deadline = requestedAt + options.reportTimeout().toNanos();
+        while (true) {
+            String status = json(send("report-status", get("/api/v1/reports/" + reportId), 200)).path("status").asText();
+            if (status.equals("COMPLETED")) {
+                metrics.record("report-ready", System.nanoTime() - requestedAt, true);
+                return;
+            }
+            if (status.equals("FAILED") || System.nanoTime() > deadline) {
+                metrics.record("report-ready", System.nanoTime() - requestedAt, false);
+                throw new FlowException("Report " + reportId + " ended " + status);
+            }
+            Thread.sleep(STATUS_POLL_INTERVAL_MS);
+        }
+    }
+
+    private byte[] send(String endpoint, HttpRequest request, int expectedStatus) throws FlowException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() == expectedStatus;
+            metrics.record(endpoint, System.nanoTime() - start, success);
+            if (!success) {
+                throw new FlowException(endpoint + " returned " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            metrics.record(endpoint, System.nanoTime() - start, false);
+            throw new FlowException(endpoint + " failed: " + e.getMessage());
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        try {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize request body", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(options.requestTimeout())
+                .header("Accept-Language", options.locale());
+    }
+
+    private JsonNode json(byte[] body) throws FlowException {
+        try {
+            return mapper.readTree(body);
+        } catch (IOException e) {
+            throw new FlowException("Unparseable response: " + e.getMessage());
+        }
+    }
+
+    static final class FlowException extends Exception {
+        FlowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
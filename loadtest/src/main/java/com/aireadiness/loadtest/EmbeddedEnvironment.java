@@ -0,0 +1,119 @@
+package com.aireadiness.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded Postgres binary plus the application jar running against it in its own JVM,
+ * so the load generator never competes with the application for the same heap and GC.
+ *
+ * The database starts empty; Flyway migrations run on application startup as in production.
+ */
+final class EmbeddedEnvironment implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final EmbeddedPostgres postgres;
+    private final Process application;
+    private final String baseUrl;
+
+    private EmbeddedEnvironment(EmbeddedPostgres postgres, Process application, String baseUrl) {
+        this.postgres = postgres;
+        this.application = application;
+        this.baseUrl = baseUrl;
+    }
+
+    static EmbeddedEnvironment start(Path appJar, List<String> appArgs) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(appJar)) {
+            throw new IllegalArgumentException("Application jar not found: " + appJar + " (run mvn package first)");
+        }
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try {
+            int port = freePort();
+            Path workDirectory = Files.createTempDirectory("aireadiness-loadtest");
+            Path log = workDirectory.resolve("application.log");
+            List<String> command = new ArrayList<>(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-jar", appJar.toAbsolutePath().toString(),
+                    "--server.port=" + port,
+                    "--spring.datasource.url=jdbc:postgresql://localhost:" + postgres.getPort()
+                            + "/postgres?reWriteBatchedInserts=true",
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--app.report.directory=" + workDirectory.resolve("reports")));
+            command.addAll(appArgs);
+            Process application = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+
+            EmbeddedEnvironment environment = new EmbeddedEnvironment(postgres, application, "http://localhost:" + port);
+            System.out.printf("Embedded Postgres on port %d, application on port %d (log: %s)%n",
+                    postgres.getPort(), port, log);
+            environment.awaitHealthy();
+            return environment;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Application exited during startup with status " + application.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        application.destroyForcibly();
+        throw new IllegalStateException("Application not healthy after " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws IOException {
+        application.destroy();
+        try {
+            if (!application.waitFor(30, TimeUnit.SECONDS)) {
+                application.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            application.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        postgres.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
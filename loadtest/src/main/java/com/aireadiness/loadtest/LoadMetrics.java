@@ -0,0 +1,180 @@
+package com.aireadiness.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms, request counts and errors, recorded only while measuring
+ *
+ * Latencies are kept in microseconds with three significant digits, up to one hour.
+ */
+final class LoadMetrics {
+
+    static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder flowsCompleted = new LongAdder();
+    private final LongAdder flowsFailed = new LongAdder();
+    private final LongAdder arrivalsDropped = new LongAdder();
+
+    private volatile boolean measuring;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    void startMeasuring() {
+        startNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        endNanos = System.nanoTime();
+        measuring = false;
+    }
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        if (!measuring) {
+            return;
+        }
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        stats.requests.increment();
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void flowFinished(boolean success) {
+        if (measuring) {
+            (success ? flowsCompleted : flowsFailed).increment();
+        }
+    }
+
+    /**
+     * A flow was due to start but every worker was busy; counted so overload is visible instead of hidden
+     */
+    void arrivalDropped() {
+        if (measuring) {
+            arrivalsDropped.increment();
+        }
+    }
+
+    /**
+     * JSON report with throughput, error rate and percentiles per endpoint, and the SLO verdicts.
+     * Failed flows and dropped arrivals count against the verdict too: an overloaded run that
+     * dropped most of its arrivals would otherwise pass on the few requests it did send.
+     */
+    ObjectNode report(ObjectMapper mapper, LoadTestOptions options) {
+        double seconds = (endNanos - startNanos) / 1e9;
+        ObjectNode report = mapper.createObjectNode();
+        report.put("baseUrl", options.baseUrl());
+        report.put("targetRatePerSecond", options.rate());
+        report.put("concurrency", options.concurrency());
+        report.put("durationSeconds", seconds);
+        report.put("flowsCompleted", flowsCompleted.sum());
+        report.put("flowsFailed", flowsFailed.sum());
+        report.put("flowsPerSecond", flowsCompleted.sum() / seconds);
+        report.put("arrivalsDropped", arrivalsDropped.sum());
+
+        ObjectNode endpointsNode = report.putObject("endpoints");
+        ArrayNode violations = report.putArray("violations");
+        long flowsFinished = flowsCompleted.sum() + flowsFailed.sum();
+        double failedFlowRate = flowsFinished == 0 ? 0 : (double) flowsFailed.sum() / flowsFinished;
+        if (failedFlowRate > options.maxFailedFlowRate()) {
+            violations.add(String.format("failed flow rate %.4f > %.4f", failedFlowRate, options.maxFailedFlowRate()));
+        }
+        long arrivals = flowsFinished + arrivalsDropped.sum();
+        double droppedArrivalRate = arrivals == 0 ? 0 : (double) arrivalsDropped.sum() / arrivals;
+        if (droppedArrivalRate > options.maxDroppedArrivalRate()) {
+            violations.add(String.format("dropped arrival rate %.4f > %.4f", droppedArrivalRate,
+                    options.maxDroppedArrivalRate()));
+        }
+        for (String endpoint : endpoints.keySet().stream().sorted().toList()) {
+            EndpointStats stats = endpoints.get(endpoint);
+            Histogram latency = stats.latency.copy();
+            long requests = stats.requests.sum();
+            double errorRate = requests == 0 ? 0 : (double) stats.errors.sum() / requests;
+
+            ObjectNode node = endpointsNode.putObject(endpoint);
+            node.put("requests", requests);
+            node.put("errors", stats.errors.sum());
+            node.put("errorRate", errorRate);
+            node.put("throughputPerSecond", requests / seconds);
+            ObjectNode latencyNode = node.putObject("latencyMs");
+            latencyNode.put("mean", latency.getMean() / 1000.0);
+            for (double percentile : PERCENTILES) {
+                latencyNode.put(percentileName(percentile), latency.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latencyNode.put("max", latency.getMaxValue() / 1000.0);
+
+            if (errorRate > options.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.4f > %.4f", endpoint, errorRate, options.maxErrorRate()));
+            }
+            for (String violation : sloViolations(endpoint, latency, options.slos())) {
+                violations.add(violation);
+            }
+        }
+        report.put("passed", violations.isEmpty());
+        return report;
+    }
+
+    static void print(ObjectNode report, PrintStream out) {
+        out.printf("%n%.0f s, %d flows completed (%.2f/s), %d failed, %d arrivals dropped%n",
+                report.get("durationSeconds").asDouble(), report.get("flowsCompleted").asLong(),
+                report.get("flowsPerSecond").asDouble(), report.get("flowsFailed").asLong(),
+                report.get("arrivalsDropped").asLong());
+        out.printf("%-16s %9s %8s %9s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        report.get("endpoints").fields().forEachRemaining(entry -> {
+            var node = entry.getValue();
+            var latency = node.get("latencyMs");
+            out.printf("%-16s %9d %7.2f%% %9.2f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), node.get("requests").asLong(), node.get("errorRate").asDouble() * 100,
+                    node.get("throughputPerSecond").asDouble(),
+                    latency.get("p50").asDouble(), latency.get("p90").asDouble(), latency.get("p95").asDouble(),
+                    latency.get("p99").asDouble(), latency.get("p99.9").asDouble(), latency.get("max").asDouble());
+        });
+        report.get("violations").forEach(violation -> out.println("SLO VIOLATED: " + violation.asText()));
+        out.println(report.get("passed").asBoolean() ? "All SLOs met" : "SLOs not met");
+    }
+
+    private static List<String> sloViolations(String endpoint, Histogram latency, Map<String, Double> slos) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, Double> slo : slos.entrySet()) {
+            int dot = slo.getKey().lastIndexOf(".p");
+            String target = slo.getKey().substring(0, dot);
+            if (!target.equals("*") && !target.equals(endpoint)) {
+                continue;
+            }
+            double percentile = Double.parseDouble(slo.getKey().substring(dot + 2));
+            double actualMs = latency.getValueAtPercentile(percentile) / 1000.0;
+            if (actualMs > slo.getValue()) {
+                violations.add(String.format("%s %s = %.1f ms > %.1f ms", endpoint, percentileName(percentile),
+                        actualMs, slo.getValue()));
+            }
+        }
+        return violations;
+    }
+
+    private static String percentileName(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+
+    private static final class EndpointStats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+}
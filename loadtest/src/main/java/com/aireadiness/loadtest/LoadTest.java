@@ -0,0 +1,144 @@
+package com.aireadiness.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for the assessment flow.
+ *
+ * With a rate, flows start on a fixed schedule (open model) no matter how slow the application
+ * is; a start that finds all workers busy is counted as dropped rather than delayed, so overload
+ * shows up in the report instead of silently lowering the offered load. With rate 0, every
+ * worker runs flows back to back (closed model).
+ *
+ * Exits with status 1 when an SLO or the error-rate limit is not met.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        boolean passed;
+        if (options.embeddedPostgres()) {
+            try (EmbeddedEnvironment environment = EmbeddedEnvironment.start(options.appJar(), options.appArgs())) {
+                passed = run(options.withBaseUrl(environment.baseUrl()));
+            }
+        } else {
+            passed = run(options);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    static boolean run(LoadTestOptions options) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        LoadMetrics metrics = new LoadMetrics();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.requestTimeout())
+                .build();
+        AssessmentFlow flow = new AssessmentFlow(client, mapper, options, metrics);
+
+        System.out.printf("Load testing %s: %s, concurrency %d, warmup %ds, duration %ds%n", options.baseUrl(),
+                options.rate() > 0 ? options.rate() + " flows/s" : "back-to-back flows",
+                options.concurrency(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long measureUntil = measureFrom + options.duration().toNanos();
+        ExecutorService workers = options.rate() > 0
+                ? runOpen(flow, metrics, options, start, measureFrom, measureUntil)
+                : runClosed(flow, metrics, options, measureFrom, measureUntil);
+
+        // Flows still in progress are not measured, but let them finish before tearing anything down
+        workers.shutdown();
+        if (!workers.awaitTermination(options.reportTimeout().toSeconds() + 30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+
+        ObjectNode report = metrics.report(mapper, options);
+        mapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+        LoadMetrics.print(report, System.out);
+        System.out.println("Report written to " + options.output());
+        return report.get("passed").asBoolean();
+    }
+
+    private static ExecutorService runOpen(AssessmentFlow flow, LoadMetrics metrics, LoadTestOptions options,
+                                           long start, long measureFrom, long measureUntil) {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(options.concurrency(), options.concurrency(),
+                0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        long intervalNanos = (long) (1e9 / options.rate());
+        boolean measuring = false;
+        for (long next = start; next < measureUntil; next += intervalNanos) {
+            sleepUntil(next);
+            if (!measuring && next >= measureFrom) {
+                metrics.startMeasuring();
+                measuring = true;
+            }
+            try {
+                workers.execute(flow::run);
+            } catch (RejectedExecutionException e) {
+                metrics.arrivalDropped();
+            }
+        }
+        sleepUntil(measureUntil);
+        if (!measuring) {
+            metrics.startMeasuring();
+        }
+        metrics.stopMeasuring();
+        return workers;
+    }
+
+    private static ExecutorService runClosed(AssessmentFlow flow, LoadMetrics metrics, LoadTestOptions options,
+                                             long measureFrom, long measureUntil) {
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        List<Runnable> loops = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            loops.add(() -> {
+                while (System.nanoTime() < measureUntil && !Thread.currentThread().isInterrupted()) {
+                    flow.run();
+                }
+            });
+        }
+        loops.forEach(workers::execute);
+        sleepUntil(measureFrom);
+        metrics.startMeasuring();
+        sleepUntil(measureUntil);
+        metrics.stopMeasuring();
+        return workers;
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, Duration.ofMillis(100).toNanos()));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aireadiness.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of a load test run
+ *
+ * @param rate flows started per second; 0 runs a closed model where each worker starts its next flow when the last ends
+ * @param concurrency maximum flows in progress at once
+ * @param slos latency objectives in milliseconds, keyed "endpoint.pNN" (endpoint "*" applies to all)
+ * @param maxFailedFlowRate highest acceptable ratio of failed flows to flows finished
+ * @param maxDroppedArrivalRate highest acceptable ratio of dropped arrivals to scheduled ones
+ */
+public record LoadTestOptions(String baseUrl,
+                              double rate,
+                              int concurrency,
+                              Duration duration,
+                              Duration warmup,
+                              Duration requestTimeout,
+                              Duration reportTimeout,
+                              String locale,
+                              boolean embeddedPostgres,
+                              Path appJar,
+                              List<String> appArgs,
+                              Path output,
+                              Map<String, Double> slos,
+                              double maxErrorRate,
+                              double maxFailedFlowRate,
+                              double maxDroppedArrivalRate) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [options]
+              --base-url URL            application to test (default http://localhost:8080)
+              --rate N                  flows started per second, 0 for back-to-back flows (default 5)
+              --concurrency N           maximum flows in progress (default 20)
+              --duration SECONDS        measured duration (default 60)
+              --warmup SECONDS          unmeasured warmup before the run (default 10)
+              --request-timeout MS      per-request timeout (default 10000)
+              --report-timeout SECONDS  how long to poll for a rendered report (default 60)
+              --locale LOCALE           Accept-Language and assessment locale (default es-ES)
+              --embedded-postgres       start an embedded Postgres binary and the application jar
+              --app-jar PATH            application jar for --embedded-postgres
+                                        (default target/ai-readiness-web-1.0.0-SNAPSHOT.jar)
+              --app-arg ARG             extra argument for the embedded application, repeatable,
+                                        e.g. --app-arg --app.report.jobs.workers=8
+              --output PATH             JSON report (default loadtest-report.json)
+              --slo ENDPOINT.pNN=MS     latency objective, repeatable, e.g. submit.p99=800 or *.p99=2000
+              --max-error-rate RATIO    highest acceptable error ratio per endpoint (default 0.01)
+              --max-failed-flow-rate RATIO
+                                        highest acceptable ratio of failed flows (default 0.01)
+              --max-dropped-arrival-rate RATIO
+                                        highest acceptable ratio of dropped arrivals (default 0)
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        String baseUrl = "http://localhost:8080";
+        double rate = 5;
+        int concurrency = 20;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        Duration requestTimeout = Duration.ofSeconds(10);
+        Duration reportTimeout = Duration.ofSeconds(60);
+        String locale = "es-ES";
+        boolean embeddedPostgres = false;
+        Path appJar = Path.of("target/ai-readiness-web-1.0.0-SNAPSHOT.jar");
+        List<String> appArgs = new ArrayList<>();
+        Path output = Path.of("loadtest-report.json");
+        Map<String, Double> slos = new LinkedHashMap<>();
+        double maxErrorRate = 0.01;
+        double maxFailedFlowRate = 0.01;
+        double maxDroppedArrivalRate = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--embedded-postgres")) {
+                embeddedPostgres = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--base-url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--concurrency" -> concurrency = Integer.parseInt(value);
+                case "--duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "--request-timeout" -> requestTimeout = Duration.ofMillis(Long.parseLong(value));
+                case "--report-timeout" -> reportTimeout = Duration.ofSeconds(Long.parseLong(value));
+                case "--locale" -> locale = value;
+                case "--app-jar" -> appJar = Path.of(value);
+                case "--app-arg" -> appArgs.add(value);
+                case "--output" -> output = Path.of(value);
+                case "--max-error-rate" -> maxErrorRate = Double.parseDouble(value);
+                case "--max-failed-flow-rate" -> maxFailedFlowRate = Double.parseDouble(value);
+                case "--max-dropped-arrival-rate" -> maxDroppedArrivalRate = Double.parseDouble(value);
+                case "--slo" -> {
+                    int equals = value.indexOf('=');
+                    if (equals < 0 || !value.substring(0, equals).matches(".+\\.p\\d+(\\.\\d+)?")) {
+                        throw new IllegalArgumentException("Invalid --slo, expected ENDPOINT.pNN=MS: " + value);
+                    }
+                    // A misspelt endpoint would otherwise match nothing and always pass
+                    String endpoint = value.substring(0, value.lastIndexOf(".p", equals));
+                    if (!endpoint.equals("*") && !AssessmentFlow.ENDPOINTS.contains(endpoint)) {
+                        throw new IllegalArgumentException("Unknown --slo endpoint " + endpoint
+                                + ", expected * or one of " + AssessmentFlow.ENDPOINTS.stream().sorted().toList());
+                    }
+                    slos.put(value.substring(0, equals), Double.parseDouble(value.substring(equals + 1)));
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if (rate < 0 || concurrency < 1) {
+            throw new IllegalArgumentException("--rate must be >= 0 and --concurrency >= 1");
+        }
+        return new LoadTestOptions(baseUrl, rate, concurrency, duration, warmup, requestTimeout, reportTimeout,
+                locale, embeddedPostgres, appJar, List.copyOf(appArgs), output, Collections.unmodifiableMap(slos),
+                maxErrorRate, maxFailedFlowRate, maxDroppedArrivalRate);
+    }
+
+    LoadTestOptions withBaseUrl(String url) {
+        return new LoadTestOptions(url, rate, concurrency, duration, warmup, requestTimeout, reportTimeout,
+                locale, embeddedPostgres, appJar, appArgs, output, slos, maxErrorRate, maxFailedFlowRate,
+                maxDroppedArrivalRate);
+    }
+}
@@ -0,0 +1,62 @@
+package com.aireadiness.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.TreeSet;
+
+/**
+ * Prints two load test reports side by side, e.g. platform against virtual request threads
+ * at the same concurrency: completed flows per second, failures, and per endpoint throughput,
+ * p50, p99 and error rate.
+ *
+ * Usage: java -cp loadtest.jar com.aireadiness.loadtest.ReportComparison baseline.json candidate.json
+ */
+public final class ReportComparison {
+
+    private ReportComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ReportComparison baseline.json candidate.json");
+            System.exit(2);
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        print(mapper.readTree(Path.of(args[0]).toFile()), mapper.readTree(Path.of(args[1]).toFile()), System.out);
+    }
+
+    static void print(JsonNode baseline, JsonNode candidate, PrintStream out) {
+        out.printf("%-22s %14s %14s %9s%n", "", "baseline", "candidate", "change");
+        row(out, "flows/s", baseline.path("flowsPerSecond"), candidate.path("flowsPerSecond"));
+        row(out, "flows failed", baseline.path("flowsFailed"), candidate.path("flowsFailed"));
+        row(out, "arrivals dropped", baseline.path("arrivalsDropped"), candidate.path("arrivalsDropped"));
+
+        TreeSet<String> endpoints = new TreeSet<>();
+        baseline.path("endpoints").fieldNames().forEachRemaining(endpoints::add);
+        candidate.path("endpoints").fieldNames().forEachRemaining(endpoints::add);
+        for (String endpoint : endpoints) {
+            JsonNode before = baseline.path("endpoints").path(endpoint);
+            JsonNode after = candidate.path("endpoints").path(endpoint);
+            out.println(endpoint);
+            row(out, "  req/s", before.path("throughputPerSecond"), after.path("throughputPerSecond"));
+            row(out, "  p50 ms", before.path("latencyMs").path("p50"), after.path("latencyMs").path("p50"));
+            row(out, "  p99 ms", before.path("latencyMs").path("p99"), after.path("latencyMs").path("p99"));
+            row(out, "  error rate", before.path("errorRate"), after.path("errorRate"));
+        }
+    }
+
+    private static void row(PrintStream out, String label, JsonNode before, JsonNode after) {
+        String change = before.isNumber() && after.isNumber() && before.asDouble() != 0
+                ? String.format("%+.1f%%", (after.asDouble() - before.asDouble()) / before.asDouble() * 100)
+                : "";
+        out.printf("%-22s %14s %14s %9s%n", label, format(before), format(after), change);
+    }
+
+    private static String format(JsonNode value) {
+        return value.isNumber() ? String.format("%.2f", value.asDouble()) : "-";
+    }
+}
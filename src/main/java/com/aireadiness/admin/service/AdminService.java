@@ -5,10 +5,12 @@ import com.aireadiness.catalog.domain.Question;
 import com.aireadiness.catalog.domain.Role;
 import com.aireadiness.catalog.domain.RoleQuestion;
 import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.event.CatalogChangedEvent;
 import com.aireadiness.catalog.repository.QuestionRepository;
 import com.aireadiness.catalog.repository.RoleRepository;
 import com.aireadiness.catalog.repository.RoleVersionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,9 @@ public class AdminService {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // === ROLE MANAGEMENT ===
 
     public Role createRole(CreateRoleRequest request) {
@@ -46,6 +51,7 @@ public class AdminService {
         // Create initial version
         createInitialRoleVersion(savedRole);
         
+        publishCatalogChange(CatalogChangedEvent.Type.ROLE_CREATED, savedRole.getId());
         return savedRole;
     }
 
@@ -56,7 +62,9 @@ public class AdminService {
                     role.setDescription(request.description());
                     role.setCategory(request.category());
                     role.setUpdatedAt(LocalDateTime.now());
-                    return roleRepository.save(role);
+                    Role savedRole = roleRepository.save(role);
+                    publishCatalogChange(CatalogChangedEvent.Type.ROLE_UPDATED, savedRole.getId());
+                    return savedRole;
                 });
     }
 
@@ -66,6 +74,7 @@ public class AdminService {
                     role.setActive(false);
                     role.setUpdatedAt(LocalDateTime.now());
                     roleRepository.save(role);
+                    publishCatalogChange(CatalogChangedEvent.Type.ROLE_DELETED, roleId);
                     return true;
                 })
                 .orElse(false);
@@ -107,7 +116,10 @@ public class AdminService {
                     question.setOptions(request.options());
                     question.setContext(request.context());
                     question.setUpdatedAt(LocalDateTime.now());
-                    return questionRepository.save(question);
+                    Question savedQuestion = questionRepository.save(question);
+                    // A question can be shared by any role version
+                    publishCatalogChange(CatalogChangedEvent.Type.QUESTION_UPDATED, null);
+                    return savedQuestion;
                 });
     }
 
@@ -117,6 +129,7 @@ public class AdminService {
                     question.setActive(false);
                     question.setUpdatedAt(LocalDateTime.now());
                     questionRepository.save(question);
+                    publishCatalogChange(CatalogChangedEvent.Type.QUESTION_DELETED, null);
                     return true;
                 })
                 .orElse(false);
@@ -204,6 +217,7 @@ public class AdminService {
             newActiveVersion.setActive(true);
             roleVersionRepository.save(newActiveVersion);
             
+            publishCatalogChange(CatalogChangedEvent.Type.VERSION_ACTIVATED, roleId);
             return true;
         }
         return false;
@@ -222,6 +236,8 @@ public class AdminService {
         version.setActive(true);
         version.setCreatedAt(LocalDateTime.now());
         roleVersionRepository.save(version);
+        
+        publishCatalogChange(CatalogChangedEvent.Type.VERSION_CREATED, role.getId());
     }
 
     private void createNewRoleVersionWithQuestion(Role role, Question question) {
@@ -256,6 +272,8 @@ public class AdminService {
         savedVersion.getQuestions().add(newRoleQuestion);
         
         roleVersionRepository.save(savedVersion);
+        
+        publishCatalogChange(CatalogChangedEvent.Type.VERSION_CREATED, role.getId());
     }
 
     private void createNewRoleVersionWithoutQuestion(Role role, Long questionId) {
@@ -286,5 +304,11 @@ public class AdminService {
         }
         
         roleVersionRepository.save(savedVersion);
+        
+        publishCatalogChange(CatalogChangedEvent.Type.VERSION_CREATED, role.getId());
+    }
+
+    private void publishCatalogChange(CatalogChangedEvent.Type type, Long roleId) {
+        eventPublisher.publishEvent(new CatalogChangedEvent(type, roleId));
     }
 }
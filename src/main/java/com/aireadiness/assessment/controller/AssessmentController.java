@@ -2,7 +2,9 @@ package com.aireadiness.assessment.controller;
 
 import com.aireadiness.assessment.dto.AssessmentResponse;
 import com.aireadiness.assessment.dto.CreateAssessmentRequest;
+import com.aireadiness.assessment.service.AssessmentIdempotencyService;
 import com.aireadiness.assessment.service.AssessmentService;
+import com.aireadiness.assessment.service.IdempotencyKeyMismatchException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -19,27 +21,39 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Assessment", description = "API for creating and managing assessments")
 public class AssessmentController {
     
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
     private final AssessmentService assessmentService;
+    private final AssessmentIdempotencyService idempotencyService;
     
-    public AssessmentController(AssessmentService assessmentService) {
+    public AssessmentController(AssessmentService assessmentService,
+                              AssessmentIdempotencyService idempotencyService) {
         this.assessmentService = assessmentService;
+        this.idempotencyService = idempotencyService;
     }
     
     /**
      * Create new assessment and calculate scores
      * POST /api/v1/assessments
+     * Retries carrying the same Idempotency-Key get the original response
      */
     @PostMapping("/assessments")
     @Operation(summary = "Create assessment", 
-               description = "Creates a new assessment, calculates scores and identifies gaps")
+               description = "Creates a new assessment, calculates scores and identifies gaps. "
+                       + "Send an Idempotency-Key header to make retries safe.")
     public ResponseEntity<AssessmentResponse> createAssessment(
-            @Valid @RequestBody CreateAssessmentRequest request) {
+            @Valid @RequestBody CreateAssessmentRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         
         try {
-            AssessmentResponse response = assessmentService.createAssessment(request);
+            AssessmentResponse response = idempotencyKey == null
+                    ? assessmentService.createAssessment(request)
+                    : idempotencyService.createAssessment(idempotencyKey, request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (IdempotencyKeyMismatchException e) {
+            return ResponseEntity.unprocessableEntity().build();
         }
     }
     
@@ -11,8 +11,9 @@ import jakarta.persistence.*;
 public class Answer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_id_seq")
+    @SequenceGenerator(name = "answer_id_seq", sequenceName = "answer_id_seq", allocationSize = 50)
+    private Long id; // Pooled sequence (V11) so answer inserts can be JDBC-batched
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assessment_id", nullable = false)
@@ -1,6 +1,8 @@
 package com.aireadiness.assessment.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,10 +13,10 @@ import java.util.List;
  */
 @Entity
 @Table(name = "assessment")
-public class Assessment {
+public class Assessment implements Persistable<String> {
     
     @Id
-    private String id; // Format: a_01H... (ULID or similar)
+    private String id; // Format: a_ + 26-char time-ordered id, see TimeOrderedIdGenerator
     
     @Column(name = "role_id", nullable = false)
     private String roleId;
@@ -49,6 +51,10 @@ public class Assessment {
     @OneToMany(mappedBy = "assessment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Answer> answers = new ArrayList<>();
     
+    // Ids are assigned before saving; without this, save() would merge and SELECT first
+    @Transient
+    private boolean isNew = true;
+    
     public Assessment() {
         this.createdAt = LocalDateTime.now();
         this.consent = false;
@@ -99,4 +105,11 @@ public class Assessment {
     
     public List<Answer> getAnswers() { return answers; }
     public void setAnswers(List<Answer> answers) { this.answers = answers; }
+    
+    @Override
+    public boolean isNew() { return isNew; }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
 }
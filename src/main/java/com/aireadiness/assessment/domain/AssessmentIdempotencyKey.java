@@ -0,0 +1,65 @@
+package com.aireadiness.assessment.domain;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key sent with an assessment submission and the assessment it created
+ * The request hash detects a key reused for a different submission
+ */
+@Entity
+@Table(name = "assessment_idempotency_key")
+public class AssessmentIdempotencyKey implements Persistable<String> {
+    
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+    
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    
+    @Column(name = "assessment_id", nullable = false)
+    private String assessmentId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    public AssessmentIdempotencyKey() {
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public AssessmentIdempotencyKey(String idempotencyKey, String requestHash, String assessmentId) {
+        this();
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.assessmentId = assessmentId;
+    }
+    
+    // Getters and setters
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    
+    public String getRequestHash() { return requestHash; }
+    public void setRequestHash(String requestHash) { this.requestHash = requestHash; }
+    
+    public String getAssessmentId() { return assessmentId; }
+    public void setAssessmentId(String assessmentId) { this.assessmentId = assessmentId; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    @Override
+    public String getId() { return idempotencyKey; }
+    
+    @Override
+    public boolean isNew() { return isNew; }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
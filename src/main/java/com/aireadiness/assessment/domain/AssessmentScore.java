@@ -0,0 +1,138 @@
+package com.aireadiness.assessment.domain;
+
+import com.aireadiness.common.domain.Pillar;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores of an assessment, computed once at submission
+ * Pillar columns are null when the role has no questions for that pillar
+ */
+@Entity
+@Table(name = "assessment_score")
+public class AssessmentScore implements Persistable<String> {
+    
+    @Id
+    @Column(name = "assessment_id")
+    private String assessmentId;
+    
+    @Column(name = "tech_score")
+    private Double techScore;
+    
+    @Column(name = "ai_score")
+    private Double aiScore;
+    
+    @Column(name = "communication_score")
+    private Double communicationScore;
+    
+    @Column(name = "portfolio_score")
+    private Double portfolioScore;
+    
+    @Column(name = "global_score", nullable = false)
+    private Double globalScore;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private List<String> gaps = new ArrayList<>();
+    
+    @Column(name = "answer_count", nullable = false)
+    private Integer answerCount;
+    
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+    
+    @Transient
+    private boolean isNew = true;
+    
+    public AssessmentScore() {
+        this.computedAt = LocalDateTime.now();
+    }
+    
+    public AssessmentScore(String assessmentId, double globalScore, List<String> gaps, int answerCount) {
+        this();
+        this.assessmentId = assessmentId;
+        this.globalScore = globalScore;
+        this.gaps = new ArrayList<>(gaps);
+        this.answerCount = answerCount;
+    }
+    
+    /**
+     * Score of a single pillar, or null when the role has no questions for it
+     */
+    public Double getPillarScore(Pillar pillar) {
+        return switch (pillar) {
+            case TECH -> techScore;
+            case AI -> aiScore;
+            case COMMUNICATION -> communicationScore;
+            case PORTFOLIO -> portfolioScore;
+        };
+    }
+    
+    public void setPillarScore(Pillar pillar, Double score) {
+        switch (pillar) {
+            case TECH -> techScore = score;
+            case AI -> aiScore = score;
+            case COMMUNICATION -> communicationScore = score;
+            case PORTFOLIO -> portfolioScore = score;
+        }
+    }
+    
+    /**
+     * Scored pillars only
+     */
+    public Map<Pillar, Double> getPillarScores() {
+        Map<Pillar, Double> result = new EnumMap<>(Pillar.class);
+        for (Pillar pillar : Pillar.values()) {
+            Double score = getPillarScore(pillar);
+            if (score != null) {
+                result.put(pillar, score);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Scored pillars and the global score, rounded as in the submission response
+     */
+    public Map<String, Double> getScoresAsMap() {
+        Map<String, Double> result = new HashMap<>();
+        getPillarScores().forEach((pillar, score) -> result.put(pillar.name(), Math.round(score * 100.0) / 100.0));
+        result.put("GLOBAL", Math.round(globalScore * 100.0) / 100.0);
+        return result;
+    }
+    
+    // Getters and setters
+    public String getAssessmentId() { return assessmentId; }
+    public void setAssessmentId(String assessmentId) { this.assessmentId = assessmentId; }
+    
+    public Double getGlobalScore() { return globalScore; }
+    public void setGlobalScore(Double globalScore) { this.globalScore = globalScore; }
+    
+    public List<String> getGaps() { return gaps; }
+    public void setGaps(List<String> gaps) { this.gaps = gaps; }
+    
+    public Integer getAnswerCount() { return answerCount; }
+    public void setAnswerCount(Integer answerCount) { this.answerCount = answerCount; }
+    
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+    
+    @Override
+    public String getId() { return assessmentId; }
+    
+    @Override
+    public boolean isNew() { return isNew; }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+}
@@ -0,0 +1,26 @@
+package com.aireadiness.assessment.repository;
+
+import com.aireadiness.assessment.domain.AssessmentIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for Idempotency-Keys of assessment submissions
+ */
+@Repository
+public interface AssessmentIdempotencyKeyRepository extends JpaRepository<AssessmentIdempotencyKey, String> {
+    
+    /**
+     * Delete keys stored before the given time, using the created_at index
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AssessmentIdempotencyKey k WHERE k.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,12 @@
+package com.aireadiness.assessment.repository;
+
+import com.aireadiness.assessment.domain.AssessmentScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for persisted assessment scores
+ */
+@Repository
+public interface AssessmentScoreRepository extends JpaRepository<AssessmentScore, String> {
+}
@@ -0,0 +1,165 @@
+package com.aireadiness.assessment.service;
+
+import com.aireadiness.assessment.domain.AssessmentIdempotencyKey;
+import com.aireadiness.assessment.dto.AnswerDto;
+import com.aireadiness.assessment.dto.AssessmentResponse;
+import com.aireadiness.assessment.dto.CreateAssessmentRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates assessment submissions carrying an Idempotency-Key.
+ *
+ * Recent keys are cached with their response; duplicates arriving while the first submission
+ * is still running wait for it instead of creating a second assessment. Keys are also stored
+ * with the assessment, so retries that reach another node or arrive after eviction get the
+ * original response rebuilt from the persisted scores, without new inserts, scoring or telemetry.
+ */
+@Service
+public class AssessmentIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssessmentIdempotencyService.class);
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final AssessmentService assessmentService;
+    private final int maxEntries;
+
+    private final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+
+    public AssessmentIdempotencyService(AssessmentService assessmentService,
+                                        @Value("${app.assessment.idempotency.cache-max-entries:10000}") int maxEntries) {
+        this.assessmentService = assessmentService;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Create the assessment once per key and return the same response for every retry
+     *
+     * @throws IllegalArgumentException when the key is blank or too long, or the request is invalid
+     * @throws IdempotencyKeyMismatchException when the key was already used for a different request
+     */
+    public AssessmentResponse createAssessment(String idempotencyKey, CreateAssessmentRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Invalid Idempotency-Key");
+        }
+        String requestHash = requestHash(request);
+
+        Submission submission = new Submission(requestHash, new CompletableFuture<>());
+        Submission existing = submissions.putIfAbsent(idempotencyKey, submission);
+        if (existing != null) {
+            checkSameRequest(existing.requestHash(), requestHash);
+            return await(existing.response());
+        }
+
+        try {
+            AssessmentResponse response = execute(idempotencyKey, requestHash, request);
+            submission.response().complete(response);
+            evictIfFull();
+            return response;
+        } catch (RuntimeException e) {
+            // Failed submissions are not remembered; the client may retry with the same key
+            submissions.remove(idempotencyKey, submission);
+            submission.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int cacheSize() {
+        return submissions.size();
+    }
+
+    private AssessmentResponse execute(String idempotencyKey, String requestHash, CreateAssessmentRequest request) {
+        Optional<AssessmentResponse> stored = findStored(idempotencyKey, requestHash);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        try {
+            return assessmentService.createAssessment(request, idempotencyKey, requestHash);
+        } catch (DataIntegrityViolationException e) {
+            // Another node claimed the key first and has committed by now
+            logger.debug("Idempotency-Key {} claimed concurrently, replaying stored response", idempotencyKey);
+            return findStored(idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<AssessmentResponse> findStored(String idempotencyKey, String requestHash) {
+        Optional<AssessmentIdempotencyKey> stored = assessmentService.findIdempotencyKey(idempotencyKey);
+        stored.ifPresent(key -> checkSameRequest(key.getRequestHash(), requestHash));
+        return stored.map(key -> assessmentService.getSubmissionResponse(key.getAssessmentId()));
+    }
+
+    private static void checkSameRequest(String originalHash, String requestHash) {
+        if (!originalHash.equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+    }
+
+    private static AssessmentResponse await(CompletableFuture<AssessmentResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Only completed submissions are evicted; in-flight ones must stay visible to duplicates
+     */
+    private void evictIfFull() {
+        Iterator<Submission> iterator = submissions.values().iterator();
+        while (submissions.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().response().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Hash of everything the client submitted, to detect a key reused for another request
+     */
+    static String requestHash(CreateAssessmentRequest request) {
+        StringBuilder canonical = new StringBuilder()
+                .append(request.getRoleId()).append('\n')
+                .append(request.getVersion()).append('\n')
+                .append(request.getLocale()).append('\n')
+                .append(request.getHoursPerWeek()).append('\n')
+                .append(request.getEmail()).append('\n')
+                .append(request.getConsent()).append('\n')
+                .append(request.getPrevAssessmentId()).append('\n');
+        if (request.getAnswers() != null) {
+            for (AnswerDto answer : request.getAnswers()) {
+                canonical.append(answer.getQuestionId()).append('=')
+                        .append(answer.getValue()).append('|')
+                        .append(answer.getText()).append('\n');
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Submission(String requestHash, CompletableFuture<AssessmentResponse> response) {
+    }
+}
@@ -2,20 +2,30 @@ package com.aireadiness.assessment.service;
 
 import com.aireadiness.assessment.domain.Answer;
 import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentIdempotencyKey;
+import com.aireadiness.assessment.domain.AssessmentScore;
 import com.aireadiness.assessment.dto.AnswerDto;
 import com.aireadiness.assessment.dto.AssessmentResponse;
 import com.aireadiness.assessment.dto.CreateAssessmentRequest;
+import com.aireadiness.assessment.repository.AssessmentIdempotencyKeyRepository;
 import com.aireadiness.assessment.repository.AssessmentRepository;
-import com.aireadiness.catalog.domain.RoleQuestion;
+import com.aireadiness.assessment.repository.AssessmentScoreRepository;
+import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.domain.RoleVersionKey;
 import com.aireadiness.catalog.repository.RoleVersionRepository;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.common.id.TimeOrderedIdGenerator;
+import com.aireadiness.common.metrics.MetricTags;
 import com.aireadiness.telemetry.service.TelemetryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -26,18 +36,30 @@ import java.util.stream.Collectors;
 public class AssessmentService {
     
     private final AssessmentRepository assessmentRepository;
+    private final AssessmentScoreRepository assessmentScoreRepository;
+    private final AssessmentIdempotencyKeyRepository idempotencyKeyRepository;
     private final RoleVersionRepository roleVersionRepository;
     private final ScoringService scoringService;
+    private final ScoringPlanCache scoringPlanCache;
     private final TelemetryService telemetryService;
+    private final MeterRegistry meterRegistry;
     
     public AssessmentService(AssessmentRepository assessmentRepository,
+                           AssessmentScoreRepository assessmentScoreRepository,
+                           AssessmentIdempotencyKeyRepository idempotencyKeyRepository,
                            RoleVersionRepository roleVersionRepository,
                            ScoringService scoringService,
-                           TelemetryService telemetryService) {
+                           ScoringPlanCache scoringPlanCache,
+                           TelemetryService telemetryService,
+                           MeterRegistry meterRegistry) {
         this.assessmentRepository = assessmentRepository;
+        this.assessmentScoreRepository = assessmentScoreRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
         this.roleVersionRepository = roleVersionRepository;
         this.scoringService = scoringService;
+        this.scoringPlanCache = scoringPlanCache;
         this.telemetryService = telemetryService;
+        this.meterRegistry = meterRegistry;
     }
     
     /**
@@ -46,26 +68,56 @@ public class AssessmentService {
      */
     @Transactional
     public AssessmentResponse createAssessment(CreateAssessmentRequest request) {
-        
-        // Validate role and version exist
-        var roleVersionOpt = roleVersionRepository.findByRoleIdAndVersionWithQuestions(
-            request.getRoleId(), request.getVersion()
-        );
-        
-        if (roleVersionOpt.isEmpty()) {
-            throw new IllegalArgumentException("Role or version not found: " + 
-                request.getRoleId() + " v" + request.getVersion());
+        return createAssessment(request, null, null);
+    }
+    
+    /**
+     * Create new assessment and record the Idempotency-Key it was submitted with
+     * The key is claimed before anything else is written, so a duplicate submitted
+     * concurrently on another node fails here instead of inserting a second assessment
+     */
+    @Transactional
+    public AssessmentResponse createAssessment(CreateAssessmentRequest request, String idempotencyKey, String requestHash) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Long roleId = null;
+        String outcome = MetricTags.SUCCESS;
+        try {
+            // Validate role and version exist
+            var roleVersion = roleVersionRepository.findWithQuestions(
+                RoleVersionKey.parse(request.getRoleId(), request.getVersion())
+            ).orElseThrow(() -> new IllegalArgumentException("Role or version not found: " +
+                request.getRoleId() + " v" + request.getVersion()));
+            roleId = roleVersion.getRole().getId();
+            return submit(request, roleVersion, idempotencyKey, requestHash);
+        } catch (RuntimeException e) {
+            outcome = MetricTags.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("assessment.create")
+                    .description("Time to validate, store and score one submitted assessment")
+                    .tag("role", MetricTags.role(roleId))
+                    .tag("locale", MetricTags.locale(request.getLocale()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
+    }
+    
+    private AssessmentResponse submit(CreateAssessmentRequest request, RoleVersion roleVersion,
+                                      String idempotencyKey, String requestHash) {
+        // Time-ordered id, so assessment primary key inserts stay at the end of the index
+        String assessmentId = TimeOrderedIdGenerator.nextId("a_");
         
-        var roleVersion = roleVersionOpt.get();
+        if (idempotencyKey != null) {
+            idempotencyKeyRepository.saveAndFlush(new AssessmentIdempotencyKey(idempotencyKey, requestHash, assessmentId));
+        }
         
-        // Generate assessment ID (using UUID for MVP, could use ULID in production)
-        String assessmentId = "a_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        // Store the catalog id rather than the client's spelling of it ("01", " 1")
+        String roleId = roleVersion.getRole().getId().toString();
         
         // Create assessment entity
         Assessment assessment = new Assessment(
             assessmentId,
-            request.getRoleId(),
+            roleId,
             request.getVersion(),
             request.getLocale(),
             request.getHoursPerWeek()
@@ -95,16 +147,19 @@ public class AssessmentService {
         assessmentRepository.save(assessment);
         
         // Track assessment started
-        telemetryService.trackAssessmentStarted(assessmentId, request.getRoleId(), request.getVersion());
+        telemetryService.trackAssessmentStarted(assessmentId, roleId, request.getVersion());
+        
+        // Calculate scores with the compiled plan of this role version
+        ScoringPlan scoringPlan = scoringPlanCache.getPlan(roleVersion);
+        ScoringService.AssessmentScores scores = scoringService.calculateScores(answers, scoringPlan);
         
-        // Calculate scores
-        List<RoleQuestion> roleQuestions = roleVersion.getQuestions();
-        ScoringService.AssessmentScores scores = scoringService.calculateScores(answers, roleQuestions);
+        // Persist scores so plan, report and summary never re-score
+        assessmentScoreRepository.save(toScoreRow(assessmentId, scores, answers.size()));
         
         // Track assessment completed
         telemetryService.trackAssessmentCompleted(
             assessmentId, 
-            request.getRoleId(), 
+            roleId, 
             answers.size(), 
             scores.getGlobalScore()
         );
@@ -125,6 +180,60 @@ public class AssessmentService {
                 .orElseThrow(() -> new IllegalArgumentException("Assessment not found: " + assessmentId));
     }
     
+    /**
+     * Get assessment without loading its answers
+     */
+    public Assessment findAssessment(String assessmentId) {
+        return assessmentRepository.findById(assessmentId)
+                .orElseThrow(() -> new IllegalArgumentException("Assessment not found: " + assessmentId));
+    }
+    
+    /**
+     * Get the scores persisted at submission
+     * Assessments submitted before scores were persisted are scored once here and stored
+     */
+    @Transactional
+    public AssessmentScore getScores(String assessmentId) {
+        Optional<AssessmentScore> stored = assessmentScoreRepository.findById(assessmentId);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        
+        Assessment assessment = getAssessment(assessmentId);
+        var roleVersion = roleVersionRepository.findWithQuestions(
+            RoleVersionKey.parse(assessment.getRoleId(), assessment.getVersion())
+        ).orElseThrow(() -> new IllegalArgumentException("Role version not found for assessment"));
+        
+        ScoringService.AssessmentScores scores = scoringService.calculateScores(
+            assessment.getAnswers(), scoringPlanCache.getPlan(roleVersion)
+        );
+        return assessmentScoreRepository.save(toScoreRow(assessmentId, scores, assessment.getAnswers().size()));
+    }
+    
+    /**
+     * Idempotency-Key recorded by an earlier submission, if any
+     */
+    public Optional<AssessmentIdempotencyKey> findIdempotencyKey(String idempotencyKey) {
+        return idempotencyKeyRepository.findById(idempotencyKey);
+    }
+    
+    /**
+     * Rebuild the response of an earlier submission from its persisted scores
+     */
+    @Transactional
+    public AssessmentResponse getSubmissionResponse(String assessmentId) {
+        AssessmentScore scores = getScores(assessmentId);
+        return new AssessmentResponse(assessmentId, scores.getScoresAsMap(), scores.getGaps());
+    }
+    
+    private static AssessmentScore toScoreRow(String assessmentId, ScoringService.AssessmentScores scores, int answerCount) {
+        AssessmentScore row = new AssessmentScore(assessmentId, scores.getGlobalScore(), scores.getGaps(), answerCount);
+        for (Pillar pillar : Pillar.values()) {
+            row.setPillarScore(pillar, scores.getPillarScore(pillar));
+        }
+        return row;
+    }
+    
     /**
      * Hash email for privacy compliance
      */
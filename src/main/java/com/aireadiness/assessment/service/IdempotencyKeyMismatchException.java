@@ -0,0 +1,11 @@
+package com.aireadiness.assessment.service;
+
+/**
+ * An Idempotency-Key was reused for a submission different from the one it was first sent with
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException() {
+        super("Idempotency-Key already used for a different request");
+    }
+}
@@ -0,0 +1,38 @@
+package com.aireadiness.assessment.service;
+
+import com.aireadiness.assessment.repository.AssessmentIdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes stored Idempotency-Keys past their retention. Clients only retry a
+ * submission for a short while, so an old key would never be matched again; after deletion
+ * the same key simply creates a new assessment.
+ */
+@Component
+public class IdempotencyKeySweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeySweeper.class);
+
+    private final AssessmentIdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration retention;
+
+    public IdempotencyKeySweeper(AssessmentIdempotencyKeyRepository idempotencyKeyRepository,
+                                 @Value("${app.assessment.idempotency.retention-hours:24}") long retentionHours) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Scheduled(fixedDelayString = "${app.assessment.idempotency.sweeper.interval-ms:3600000}",
+               initialDelayString = "${app.assessment.idempotency.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        int deleted = idempotencyKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(retention));
+        logger.info("Idempotency key sweep removed {} expired keys", deleted);
+    }
+}
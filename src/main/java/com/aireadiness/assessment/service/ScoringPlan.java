@@ -0,0 +1,194 @@
+package com.aireadiness.assessment.service;
+
+import com.aireadiness.assessment.domain.Answer;
+import com.aireadiness.catalog.domain.Question;
+import com.aireadiness.catalog.domain.RoleQuestion;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.common.domain.QuestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled scoring model for a role version.
+ * Questions are laid out densely and grouped by pillar, so that scoring an
+ * assessment is a single pass over primitive arrays (see PRD section 7.3).
+ *
+ * Layout: questions of pillar p occupy indexes [pillarOffsets[p], pillarOffsets[p + 1]),
+ * where p is {@link Pillar#ordinal()}.
+ */
+public final class ScoringPlan {
+
+    static final Pillar[] PILLARS = Pillar.values();
+
+    static final byte TYPE_LIKERT = 0;
+    static final byte TYPE_MULTIPLE = 1;
+    static final byte TYPE_TEXT = 2;
+
+    // Sentinels for the per-assessment answer slots
+    static final int NOT_ANSWERED = Integer.MIN_VALUE;
+    static final int NO_NUMERIC_VALUE = Integer.MIN_VALUE + 1;
+
+    private static final double GAP_THRESHOLD_PILLAR = 70.0;
+    private static final int GAP_THRESHOLD_QUESTION = 3;
+
+    private final Long roleId;
+    private final String[] questionIds;
+    private final double[] weights;
+    private final byte[] types;
+    private final int[] pillarOffsets;
+    private final int[] catalogOrder; // dense indexes in role question order, used for gap reporting
+    private final Map<String, Integer> indexByQuestionId;
+
+    private ScoringPlan(Long roleId, String[] questionIds, double[] weights, byte[] types,
+                        int[] pillarOffsets, int[] catalogOrder, Map<String, Integer> indexByQuestionId) {
+        this.roleId = roleId;
+        this.questionIds = questionIds;
+        this.weights = weights;
+        this.types = types;
+        this.pillarOffsets = pillarOffsets;
+        this.catalogOrder = catalogOrder;
+        this.indexByQuestionId = indexByQuestionId;
+    }
+
+    /**
+     * Compile a plan from the role questions of a version
+     */
+    public static ScoringPlan compile(Long roleId, List<RoleQuestion> roleQuestions) {
+        List<RoleQuestion> scorable = new ArrayList<>(roleQuestions.size());
+        for (RoleQuestion roleQuestion : roleQuestions) {
+            Question question = roleQuestion.getQuestion();
+            if (question != null && question.getId() != null && question.getPillar() != null) {
+                scorable.add(roleQuestion);
+            }
+        }
+
+        int size = scorable.size();
+        int[] pillarOffsets = new int[PILLARS.length + 1];
+        for (RoleQuestion roleQuestion : scorable) {
+            pillarOffsets[roleQuestion.getQuestion().getPillar().ordinal() + 1]++;
+        }
+        for (int p = 0; p < PILLARS.length; p++) {
+            pillarOffsets[p + 1] += pillarOffsets[p];
+        }
+
+        String[] questionIds = new String[size];
+        double[] weights = new double[size];
+        byte[] types = new byte[size];
+        int[] catalogOrder = new int[size];
+        Map<String, Integer> indexByQuestionId = new HashMap<>(size * 2);
+
+        int[] cursor = pillarOffsets.clone();
+        for (int i = 0; i < size; i++) {
+            RoleQuestion roleQuestion = scorable.get(i);
+            Question question = roleQuestion.getQuestion();
+            int index = cursor[question.getPillar().ordinal()]++;
+
+            questionIds[index] = question.getId().toString();
+            weights[index] = roleQuestion.getWeight() != null ? roleQuestion.getWeight() : 1.0;
+            types[index] = typeCode(question.getType());
+            catalogOrder[i] = index;
+            indexByQuestionId.put(questionIds[index], index);
+        }
+
+        return new ScoringPlan(roleId, questionIds, weights, types, pillarOffsets, catalogOrder, indexByQuestionId);
+    }
+
+    /**
+     * Score answers against this plan
+     */
+    public ScoringService.AssessmentScores score(List<Answer> answers) {
+        int[] values = new int[questionIds.length];
+        Arrays.fill(values, NOT_ANSWERED);
+
+        for (int i = 0, n = answers.size(); i < n; i++) {
+            Answer answer = answers.get(i);
+            Integer index = indexByQuestionId.get(answer.getQuestionId());
+            if (index != null) {
+                Integer value = answer.getValueNumeric();
+                values[index] = value != null ? value : NO_NUMERIC_VALUE;
+            }
+        }
+
+        double[] pillarScores = new double[PILLARS.length];
+        double globalScore = 0.0;
+
+        for (int p = 0; p < PILLARS.length; p++) {
+            int from = pillarOffsets[p];
+            int to = pillarOffsets[p + 1];
+            if (from == to) {
+                pillarScores[p] = Double.NaN; // role has no questions for this pillar
+                continue;
+            }
+
+            double totalWeightedScore = 0.0;
+            double totalWeight = 0.0;
+            for (int i = from; i < to; i++) {
+                int value = values[i];
+                if (value != NOT_ANSWERED) {
+                    totalWeightedScore += questionScore(types[i], value) * weights[i];
+                    totalWeight += weights[i];
+                }
+            }
+
+            double pillarScore = totalWeight > 0 ? (totalWeightedScore / totalWeight) * 100 : 0.0;
+            pillarScores[p] = pillarScore;
+            globalScore += PILLARS[p].getDefaultWeight() * pillarScore;
+        }
+
+        List<String> gaps = new ArrayList<>();
+        for (int index : catalogOrder) {
+            double pillarScore = pillarScores[pillarOf(index)];
+            int value = values[index];
+            boolean pillarHasGap = pillarScore < GAP_THRESHOLD_PILLAR;
+            boolean questionHasGap = value != NOT_ANSWERED && value != NO_NUMERIC_VALUE
+                    && value < GAP_THRESHOLD_QUESTION;
+            if (pillarHasGap || questionHasGap) {
+                gaps.add(questionIds[index]);
+            }
+        }
+
+        return new ScoringService.AssessmentScores(pillarScores, globalScore, gaps);
+    }
+
+    public Long getRoleId() { return roleId; }
+
+    public int getQuestionCount() { return questionIds.length; }
+
+    /**
+     * Question score according to PRD section 7.3
+     */
+    private static double questionScore(byte type, int value) {
+        if (value == NO_NUMERIC_VALUE) {
+            return 0.0;
+        }
+        switch (type) {
+            case TYPE_LIKERT:
+                // Likert normalizado x/5
+                return Math.min(value, 5) / 5.0;
+            case TYPE_MULTIPLE:
+                // For MVP, treat as binary (1 = correct, 0 = incorrect)
+                return value > 0 ? 1.0 : 0.0;
+            default:
+                // Text questions don't contribute to scoring directly
+                return 0.0;
+        }
+    }
+
+    private int pillarOf(int index) {
+        int p = 0;
+        while (index >= pillarOffsets[p + 1]) {
+            p++;
+        }
+        return p;
+    }
+
+    private static byte typeCode(QuestionType type) {
+        if (type == QuestionType.LIKERT) return TYPE_LIKERT;
+        if (type == QuestionType.MULTIPLE) return TYPE_MULTIPLE;
+        return TYPE_TEXT;
+    }
+}
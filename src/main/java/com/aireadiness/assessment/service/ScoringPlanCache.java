@@ -0,0 +1,52 @@
+package com.aireadiness.assessment.service;
+
+import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.event.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled scoring plans, one per role version.
+ * Plans are compiled on first use and evicted when the admin panel creates or
+ * activates a version of the owning role.
+ */
+@Component
+public class ScoringPlanCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringPlanCache.class);
+
+    private final Map<Long, ScoringPlan> plansByRoleVersionId = new ConcurrentHashMap<>();
+
+    /**
+     * Get the compiled plan for a role version, compiling it on first use
+     */
+    public ScoringPlan getPlan(RoleVersion roleVersion) {
+        Long roleId = roleVersion.getRole() != null ? roleVersion.getRole().getId() : null;
+
+        // Transient versions (not persisted yet) are compiled but never cached
+        if (roleVersion.getId() == null) {
+            return ScoringPlan.compile(roleId, roleVersion.getQuestions());
+        }
+
+        return plansByRoleVersionId.computeIfAbsent(roleVersion.getId(),
+                id -> ScoringPlan.compile(roleId, roleVersion.getQuestions()));
+    }
+
+    /**
+     * Evict plans of the affected role once the admin transaction has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        plansByRoleVersionId.values().removeIf(plan -> event.affectsRole(plan.getRoleId()));
+        logger.debug("Scoring plans invalidated: {}", event);
+    }
+
+    public int size() {
+        return plansByRoleVersionId.size();
+    }
+}
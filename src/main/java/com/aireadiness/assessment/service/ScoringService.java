@@ -1,15 +1,17 @@
 package com.aireadiness.assessment.service;
 
 import com.aireadiness.common.domain.Pillar;
-import com.aireadiness.common.domain.QuestionType;
 import com.aireadiness.catalog.domain.RoleQuestion;
 import com.aireadiness.assessment.domain.Answer;
+import com.aireadiness.common.metrics.MetricTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Service for calculating assessment scores according to PRD section 7.3
@@ -23,152 +25,66 @@ import java.util.stream.Collectors;
 @Service
 public class ScoringService {
     
-    private static final double GAP_THRESHOLD_PILLAR = 70.0;
-    private static final int GAP_THRESHOLD_QUESTION = 3;
+    private final MeterRegistry meterRegistry;
     
-    /**
-     * Calculate scores for an assessment
-     */
-    public AssessmentScores calculateScores(List<Answer> answers, List<RoleQuestion> roleQuestions) {
-        
-        // Group questions by pillar
-        Map<Pillar, List<RoleQuestion>> questionsByPillar = roleQuestions.stream()
-                .collect(Collectors.groupingBy(rq -> rq.getQuestion().getPillar()));
-        
-        // Create answer map for quick lookup
-        Map<String, Answer> answerMap = answers.stream()
-                .collect(Collectors.toMap(Answer::getQuestionId, answer -> answer));
-        
-        // Calculate pillar scores
-        Map<Pillar, Double> pillarScores = new HashMap<>();
-        
-        for (Map.Entry<Pillar, List<RoleQuestion>> entry : questionsByPillar.entrySet()) {
-            Pillar pillar = entry.getKey();
-            List<RoleQuestion> questions = entry.getValue();
-            
-            double pillarScore = calculatePillarScore(questions, answerMap);
-            pillarScores.put(pillar, pillarScore);
-        }
-        
-        // Calculate global score using pillar weights
-        double globalScore = calculateGlobalScore(pillarScores);
-        
-        // Identify gaps
-        List<String> gaps = identifyGaps(roleQuestions, answerMap, pillarScores);
-        
-        return new AssessmentScores(pillarScores, globalScore, gaps);
+    public ScoringService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
     }
     
     /**
-     * Calculate score for a specific pillar
+     * Calculate scores for an assessment, compiling an ad-hoc scoring plan
      */
-    private double calculatePillarScore(List<RoleQuestion> questions, Map<String, Answer> answerMap) {
-        double totalWeightedScore = 0.0;
-        double totalWeight = 0.0;
-        
-        for (RoleQuestion roleQuestion : questions) {
-            Answer answer = answerMap.get(roleQuestion.getQuestion().getId());
-            if (answer != null) {
-                double questionScore = calculateQuestionScore(roleQuestion, answer);
-                double weight = roleQuestion.getWeight();
-                
-                totalWeightedScore += questionScore * weight;
-                totalWeight += weight;
-            }
-        }
-        
-        return totalWeight > 0 ? (totalWeightedScore / totalWeight) * 100 : 0.0;
-    }
-    
-    /**
-     * Calculate score for individual question according to PRD section 7.3
-     */
-    private double calculateQuestionScore(RoleQuestion roleQuestion, Answer answer) {
-        QuestionType type = roleQuestion.getQuestion().getType();
-        
-        switch (type) {
-            case LIKERT:
-                // Likert normalizado x/5
-                if (answer.getValueNumeric() != null) {
-                    return Math.min(answer.getValueNumeric(), 5) / 5.0;
-                }
-                return 0.0;
-                
-            case MULTIPLE:
-                // For MVP, treat as binary (1 = correct, 0 = incorrect)
-                // Future: implement proper multiple choice scoring
-                if (answer.getValueNumeric() != null) {
-                    return answer.getValueNumeric() > 0 ? 1.0 : 0.0;
-                }
-                return 0.0;
-                
-            case TEXT:
-                // Text questions don't contribute to scoring directly
-                return 0.0;
-                
-            default:
-                return 0.0;
-        }
-    }
-    
-    /**
-     * Calculate global score using pillar weights from PRD section 7.1
-     */
-    private double calculateGlobalScore(Map<Pillar, Double> pillarScores) {
-        double globalScore = 0.0;
-        
-        for (Pillar pillar : Pillar.values()) {
-            Double pillarScore = pillarScores.get(pillar);
-            if (pillarScore != null) {
-                globalScore += pillar.getDefaultWeight() * pillarScore;
-            }
-        }
-        
-        return globalScore;
+    public AssessmentScores calculateScores(List<Answer> answers, List<RoleQuestion> roleQuestions) {
+        return calculateScores(answers, ScoringPlan.compile(null, roleQuestions));
     }
     
     /**
-     * Identify gaps according to PRD: pilares con score < 70 y preguntas < 3/5
+     * Calculate scores for an assessment with a precompiled scoring plan
+     * (see {@link ScoringPlanCache})
      */
-    private List<String> identifyGaps(List<RoleQuestion> roleQuestions, 
-                                     Map<String, Answer> answerMap, 
-                                     Map<Pillar, Double> pillarScores) {
-        
-        return roleQuestions.stream()
-                .filter(rq -> {
-                    // Check if pillar has gap
-                    Pillar pillar = rq.getQuestion().getPillar();
-                    Double pillarScore = pillarScores.get(pillar);
-                    boolean pillarHasGap = pillarScore != null && pillarScore < GAP_THRESHOLD_PILLAR;
-                    
-                    // Check if individual question has gap
-                    Answer answer = answerMap.get(rq.getQuestion().getId());
-                    boolean questionHasGap = false;
-                    if (answer != null && answer.getValueNumeric() != null) {
-                        questionHasGap = answer.getValueNumeric() < GAP_THRESHOLD_QUESTION;
-                    }
-                    
-                    return pillarHasGap || questionHasGap;
-                })
-                .map(rq -> rq.getQuestion().getId())
-                .collect(Collectors.toList());
+    public AssessmentScores calculateScores(List<Answer> answers, ScoringPlan scoringPlan) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AssessmentScores scores = scoringPlan.score(answers);
+        sample.stop(Timer.builder("assessment.scoring")
+                .description("Time to score one assessment with a compiled plan")
+                .tag("role", MetricTags.role(scoringPlan.getRoleId()))
+                .register(meterRegistry));
+        return scores;
     }
     
     /**
      * DTO for assessment scores
      */
     public static class AssessmentScores {
-        private final Map<Pillar, Double> pillarScores;
+        private final double[] pillarScores; // indexed by Pillar.ordinal(), NaN when the role has no questions for the pillar
         private final double globalScore;
         private final List<String> gaps;
         
-        public AssessmentScores(Map<Pillar, Double> pillarScores, double globalScore, List<String> gaps) {
+        public AssessmentScores(double[] pillarScores, double globalScore, List<String> gaps) {
             this.pillarScores = pillarScores;
             this.globalScore = globalScore;
             this.gaps = gaps;
         }
         
-        public Map<Pillar, Double> getPillarScores() { return pillarScores; }
+        /**
+         * Score of a single pillar, or null when the role has no questions for it
+         */
+        public Double getPillarScore(Pillar pillar) {
+            double score = pillarScores[pillar.ordinal()];
+            return Double.isNaN(score) ? null : score;
+        }
+        
+        public Map<Pillar, Double> getPillarScores() {
+            Map<Pillar, Double> result = new EnumMap<>(Pillar.class);
+            for (Pillar pillar : ScoringPlan.PILLARS) {
+                Double score = getPillarScore(pillar);
+                if (score != null) {
+                    result.put(pillar, score);
+                }
+            }
+            return result;
+        }
+        
         public double getGlobalScore() { return globalScore; }
         public List<String> getGaps() { return gaps; }
         
@@ -177,8 +93,11 @@ public class ScoringService {
          */
         public Map<String, Double> getPillarScoresAsMap() {
             Map<String, Double> result = new HashMap<>();
-            for (Map.Entry<Pillar, Double> entry : pillarScores.entrySet()) {
-                result.put(entry.getKey().name(), Math.round(entry.getValue() * 100.0) / 100.0);
+            for (Pillar pillar : ScoringPlan.PILLARS) {
+                Double score = getPillarScore(pillar);
+                if (score != null) {
+                    result.put(pillar.name(), Math.round(score * 100.0) / 100.0);
+                }
             }
             result.put("GLOBAL", Math.round(globalScore * 100.0) / 100.0);
             return result;
@@ -4,10 +4,13 @@ import com.aireadiness.auth.dto.AuthResponse;
 import com.aireadiness.auth.dto.LoginRequest;
 import com.aireadiness.auth.dto.RegisterRequest;
 import com.aireadiness.auth.service.AuthService;
+import com.aireadiness.auth.service.PasswordHashingRejectedException;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -45,6 +48,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (PasswordHashingRejectedException e) {
+            return hashingUnavailable();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -62,6 +67,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(request);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            return hashingUnavailable();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -143,17 +150,22 @@ public class AuthController {
     }
     
     /**
-     * Logout user (client-side token invalidation)
+     * Logout user, revoking the tokens of every session
      * POST /api/v1/auth/logout
      */
     @PostMapping("/logout")
     @Operation(summary = "User logout", 
-               description = "Logs out the current user (client should discard tokens)")
-    public ResponseEntity<Map<String, String>> logout() {
+               description = "Revokes all access and refresh tokens of the current user")
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         
-        // For JWT-based authentication, logout is primarily handled client-side
-        // by discarding the tokens. In a production system, you might want to
-        // maintain a blacklist of revoked tokens.
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                authService.logout(authorization.substring(7));
+            } catch (JwtException e) {
+                // Expired or invalid token: nothing left to revoke
+            }
+        }
         
         return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
     }
@@ -172,4 +184,10 @@ public class AuthController {
                 "timestamp", java.time.LocalDateTime.now().toString()
         ));
     }
+    
+    private static <T> ResponseEntity<T> hashingUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
 }
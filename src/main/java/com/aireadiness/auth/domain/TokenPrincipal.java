@@ -0,0 +1,51 @@
+package com.aireadiness.auth.domain;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Authenticated user rebuilt from access token claims instead of loaded from the database.
+ * Carries no password; only usable as the principal of an already verified token.
+ */
+public record TokenPrincipal(String id, String username, UserRole role, UserStatus status, int tokenVersion)
+        implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return status != UserStatus.EXPIRED;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return status != UserStatus.LOCKED;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status == UserStatus.ACTIVE;
+    }
+}
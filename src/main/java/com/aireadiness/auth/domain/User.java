@@ -73,6 +73,9 @@ public class User implements UserDetails {
     
     private LocalDateTime passwordResetExpiresAt;
     
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+    
     // Constructors
     public User() {
         this.createdAt = LocalDateTime.now();
@@ -277,6 +280,14 @@ public class User implements UserDetails {
         this.passwordResetExpiresAt = passwordResetExpiresAt;
     }
     
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,8 @@
+package com.aireadiness.auth.domain;
+
+/**
+ * What a stateless access token is checked against: its version, plus the role and status it
+ * was issued with, so suspensions and role changes apply without waiting for the token to expire
+ */
+public record UserTokenState(int tokenVersion, UserRole role, UserStatus status) {
+}
@@ -0,0 +1,166 @@
+package com.aireadiness.auth.filter;
+
+import com.aireadiness.auth.service.AuthRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Rate limits the credential endpoints before any password hashing or user lookup happens.
+ * Runs ahead of {@link JwtAuthenticationFilter}; throttled requests get 429 with Retry-After.
+ *
+ * The account name is read from the JSON body, which is buffered so the controller can
+ * still bind it. Clients are identified by remote address; behind a proxy, enable
+ * server.forward-headers-strategy so that is the real client IP. Bodies larger than
+ * credential payloads ever are, including chunked ones, are rejected with 413 so that
+ * every attempt is also counted against its account.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+    
+    private static final Set<String> LIMITED_PATHS = Set.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/register",
+            "/api/v1/auth/refresh"
+    );
+    
+    // Credential payloads are tiny; anything larger is refused rather than limited by IP only
+    private static final int MAX_INSPECTED_BODY_BYTES = 8192;
+    
+    private final AuthRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    
+    public AuthRateLimitFilter(AuthRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        
+        // Unknown length (chunked) is read up to the limit as well; one byte more means too large
+        int length = request.getContentLength();
+        byte[] body = length > MAX_INSPECTED_BODY_BYTES ? null
+                : request.getInputStream().readNBytes(length >= 0 ? length : MAX_INSPECTED_BODY_BYTES + 1);
+        if (body == null || body.length > MAX_INSPECTED_BODY_BYTES) {
+            // Still counted against the client IP, so oversized requests cannot be used to probe freely
+            rateLimiter.tryAcquire(request.getRemoteAddr(), null);
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+            return;
+        }
+        
+        long retryAfterSeconds = rateLimiter.tryAcquire(request.getRemoteAddr(), accountName(body));
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, retry later");
+            return;
+        }
+        
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+    
+    private static void reject(HttpServletResponse response, HttpStatus status, String error) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + error + "\"}");
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LIMITED_PATHS.contains(request.getRequestURI());
+    }
+    
+    /**
+     * Login sends usernameOrEmail, registration sends username; refresh has none
+     */
+    private String accountName(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            if (json == null || !json.isObject()) {
+                return null;
+            }
+            JsonNode name = json.hasNonNull("usernameOrEmail") ? json.get("usernameOrEmail") : json.get("username");
+            return name != null && name.isTextual() ? name.asText() : null;
+        } catch (IOException e) {
+            // Malformed JSON; the controller will reject it
+            return null;
+        }
+    }
+    
+    /**
+     * Request whose body has already been read into memory
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        
+        private final byte[] body;
+        
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+                
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+                
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Body is already buffered");
+                }
+            };
+        }
+        
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
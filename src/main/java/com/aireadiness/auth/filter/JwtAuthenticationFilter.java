@@ -1,11 +1,15 @@
 package com.aireadiness.auth.filter;
 
+import com.aireadiness.auth.domain.TokenPrincipal;
 import com.aireadiness.auth.service.CustomUserDetailsService;
 import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
+import com.aireadiness.auth.service.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,16 +23,28 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter
  * Intercepts requests and validates JWT tokens
+ *
+ * With app.jwt.stateless-principal.enabled the principal is rebuilt from the token's claims
+ * and only the user's cached token version, role and status are checked, instead of loading
+ * the user per request.
+ * Tokens issued without principal claims still take the database path.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final boolean statelessPrincipal;
     
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenVersionService tokenVersionService,
+                                   @Value("${app.jwt.stateless-principal.enabled:false}") boolean statelessPrincipal) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionService = tokenVersionService;
+        this.statelessPrincipal = statelessPrincipal;
     }
     
     @Override
@@ -46,18 +62,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         try {
-            // Extract JWT token from Authorization header
+            // Extract JWT token from Authorization header and verify it once
             final String jwt = authorizationHeader.substring(7); // Remove "Bearer " prefix
-            final String username = jwtService.extractUsername(jwt);
+            final VerifiedToken token = jwtService.verify(jwt);
+            final String username = token.subject();
             
             // Process token if username is valid and no authentication exists in context
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // Rebuild user details from claims, or load them
+                UserDetails userDetails = resolveUserDetails(token);
                 
                 // Validate token against user details
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(token, userDetails)) {
                     
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -85,6 +102,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Principal from claims in stateless mode, otherwise the loaded user; null when disabled.
+     * The loaded user is always current, so {@link JwtService#isTokenValid} compares its token version directly.
+     */
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        TokenPrincipal principal = statelessPrincipal ? jwtService.toPrincipal(token) : null;
+        if (principal == null) {
+            UserDetails user = userDetailsService.loadUserByUsername(token.subject());
+            return user.isEnabled() ? user : null;
+        }
+        if (!principal.isEnabled() || !tokenVersionService.isCurrent(principal)) {
+            return null;
+        }
+        return principal;
+    }
+    
     /**
      * Determine if this filter should be applied to the current request
      * Skip JWT processing for public endpoints
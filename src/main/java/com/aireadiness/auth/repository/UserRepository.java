@@ -1,11 +1,13 @@
 package com.aireadiness.auth.repository;
 
 import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.domain.UserTokenState;
 import com.aireadiness.auth.domain.UserRole;
 import com.aireadiness.auth.domain.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,29 +25,54 @@ public interface UserRepository extends JpaRepository<User, String> {
     
     /**
      * Find user by username (case-insensitive)
+     * Written as LOWER(...) so it probes idx_users_username_lower; derived IgnoreCase queries use UPPER
      */
-    Optional<User> findByUsernameIgnoreCase(String username);
+    @Query("SELECT u FROM User u WHERE LOWER(u.username) = LOWER(:username)")
+    Optional<User> findByUsernameIgnoreCase(@Param("username") String username);
     
     /**
-     * Find user by email (case-insensitive)
+     * Find user by email (case-insensitive), probing idx_users_email_lower
      */
-    Optional<User> findByEmailIgnoreCase(String email);
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
     
     /**
      * Find user by username or email (case-insensitive)
+     * Two single-index probes instead of an OR that the planner turns into a scan;
+     * the email probe is skipped when the input cannot be an email address
      */
-    @Query("SELECT u FROM User u WHERE LOWER(u.username) = LOWER(:usernameOrEmail) OR LOWER(u.email) = LOWER(:usernameOrEmail)")
-    Optional<User> findByUsernameOrEmailIgnoreCase(@Param("usernameOrEmail") String usernameOrEmail);
+    default Optional<User> findByUsernameOrEmailIgnoreCase(String usernameOrEmail) {
+        Optional<User> byUsername = findByUsernameIgnoreCase(usernameOrEmail);
+        if (byUsername.isPresent() || usernameOrEmail == null || usernameOrEmail.indexOf('@') < 0) {
+            return byUsername;
+        }
+        return findByEmailIgnoreCase(usernameOrEmail);
+    }
+    
+    /**
+     * Current token version, role and status of a user, without loading the entity
+     */
+    @Query("SELECT new com.aireadiness.auth.domain.UserTokenState(u.tokenVersion, u.role, u.status) FROM User u WHERE u.id = :id")
+    Optional<UserTokenState> findTokenStateById(@Param("id") String id);
+    
+    /**
+     * Bump the token version, revoking tokens issued with the old one
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") String id);
     
     /**
      * Check if username exists (case-insensitive)
      */
-    boolean existsByUsernameIgnoreCase(String username);
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE LOWER(u.username) = LOWER(:username)")
+    boolean existsByUsernameIgnoreCase(@Param("username") String username);
     
     /**
      * Check if email exists (case-insensitive)
      */
-    boolean existsByEmailIgnoreCase(String email);
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    boolean existsByEmailIgnoreCase(@Param("email") String email);
     
     /**
      * Find user by email verification token
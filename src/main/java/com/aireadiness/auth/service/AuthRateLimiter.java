@@ -0,0 +1,60 @@
+package com.aireadiness.auth.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login, registration and refresh attempts per client IP and per account name
+ */
+@Component
+public class AuthRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthRateLimiter.class);
+
+    private final TokenBucketRateLimiter byIp;
+    private final TokenBucketRateLimiter byUsername;
+
+    public AuthRateLimiter(@Value("${app.auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${app.auth.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                           @Value("${app.auth.rate-limit.username.capacity:5}") int usernameCapacity,
+                           @Value("${app.auth.rate-limit.username.refill-per-minute:5}") int usernameRefillPerMinute,
+                           @Value("${app.auth.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${app.auth.rate-limit.stripes:64}") int stripes) {
+        this.byIp = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys, stripes);
+        this.byUsername = new TokenBucketRateLimiter(usernameCapacity, usernameRefillPerMinute, maxKeys, stripes);
+    }
+
+    /**
+     * Take a token for the client and, when known, the account name
+     *
+     * @return 0 if allowed, otherwise the seconds to wait before retrying
+     */
+    public long tryAcquire(String clientIp, String username) {
+        long waitNanos = byIp.tryAcquire(clientIp);
+        if (waitNanos == 0 && username != null && !username.isBlank()) {
+            waitNanos = byUsername.tryAcquire(normalize(username));
+        }
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    /**
+     * Usernames and emails are matched case-insensitively, so "Alice" and "alice " share a bucket
+     */
+    static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        int removed = byIp.sweepIdle() + byUsername.sweepIdle();
+        if (removed > 0) {
+            logger.debug("Rate limiter sweep removed {} idle buckets", removed);
+        }
+    }
+}
@@ -30,15 +30,18 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenVersionService tokenVersionService;
     
     public AuthService(UserRepository userRepository, 
                       PasswordEncoder passwordEncoder,
                       JwtService jwtService,
-                      AuthenticationManager authenticationManager) {
+                      AuthenticationManager authenticationManager,
+                      TokenVersionService tokenVersionService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.tokenVersionService = tokenVersionService;
     }
     
     /**
@@ -150,6 +153,9 @@ public class AuthService {
                     userInfo
             );
             
+        } catch (PasswordHashingRejectedException e) {
+            // Not a credentials problem
+            throw e;
         } catch (Exception e) {
             throw new BadCredentialsException("Invalid username/email or password");
         }
@@ -173,10 +179,13 @@ public class AuthService {
             User user = userRepository.findByUsernameOrEmailIgnoreCase(username)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found"));
             
-            // Validate refresh token against user
+            // Validate refresh token against user; logout and revocation bump the version
             if (!jwtService.isTokenValid(refreshToken, user)) {
                 throw new IllegalArgumentException("Invalid or expired refresh token");
             }
+            if (!user.isEnabled()) {
+                throw new IllegalArgumentException("Account is disabled");
+            }
             
             // Generate new access token
             String newAccessToken = jwtService.generateToken(user);
@@ -205,6 +214,17 @@ public class AuthService {
         }
     }
     
+    /**
+     * Revoke every access and refresh token of the token's user (all sessions, not just this one)
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public void logout(String accessToken) {
+        VerifiedToken token = jwtService.verify(accessToken);
+        userRepository.findByUsernameOrEmailIgnoreCase(token.subject())
+                .ifPresent(user -> tokenVersionService.revoke(user.getId()));
+    }
+    
     /**
      * Get current authenticated user
      */
@@ -0,0 +1,68 @@
+package com.aireadiness.auth.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt encoder that runs every hash on the {@link PasswordHashingExecutor}.
+ *
+ * Hashes stored with a lower cost report {@link #upgradeEncoding}, so the authentication
+ * provider re-hashes them with the current cost on the next successful login.
+ */
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedBCryptPasswordEncoder.class);
+
+    private final BCryptPasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final int cost;
+
+    public BoundedBCryptPasswordEncoder(PasswordHashingExecutor executor, int cost) {
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.executor = executor;
+        this.cost = cost;
+    }
+
+    /**
+     * Highest cost in [minCost, maxCost] whose hash time stays within the target.
+     * Measures minCost once and extrapolates, since each cost step doubles the work.
+     */
+    public static int calibrateCost(long targetMillis, int minCost, int maxCost) {
+        // Warm up the JIT on a cheap hash so it does not inflate the measurement
+        new BCryptPasswordEncoder(4).encode("calibration");
+
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(minCost).encode("calibration");
+        double estimatedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        int cost = minCost;
+        while (cost < maxCost && estimatedMillis * 2 <= targetMillis) {
+            cost++;
+            estimatedMillis *= 2;
+        }
+        logger.info("Calibrated BCrypt cost {} (~{} ms per hash, target {} ms)",
+                cost, Math.round(estimatedMillis), targetMillis);
+        return cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+}
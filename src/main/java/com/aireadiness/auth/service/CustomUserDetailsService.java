@@ -3,6 +3,7 @@ package com.aireadiness.auth.service;
 import com.aireadiness.auth.domain.User;
 import com.aireadiness.auth.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
     
@@ -40,6 +41,20 @@ public class CustomUserDetailsService implements UserDetailsService {
         return user;
     }
     
+    /**
+     * Store a password re-hashed with the current BCrypt cost after a successful login
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsernameIgnoreCase(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(
+                    "User not found with username: " + userDetails.getUsername()
+                ));
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+    
     /**
      * Load user by ID (useful for token-based authentication)
      */
@@ -1,40 +1,100 @@
 package com.aireadiness.auth.service;
 
+import com.aireadiness.auth.domain.TokenPrincipal;
+import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.domain.UserRole;
+import com.aireadiness.auth.domain.UserStatus;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Service for JWT token generation and validation
  * Handles authentication tokens for the AI Readiness Assessment Platform
+ *
+ * The signing key and parser are built once. Verified tokens are cached by SHA-256 digest
+ * until they expire, so repeat requests with the same token skip the HMAC check and JSON parse.
  */
 @Service
 public class JwtService {
     
-    @Value("${app.jwt.secret:defaultSecretKeyForDevelopmentOnlyNotForProduction}")
-    private String jwtSecret;
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_STATUS = "status";
+    static final String CLAIM_TOKEN_VERSION = "ver";
     
-    @Value("${app.jwt.expiration:86400000}") // 24 hours in milliseconds
-    private long jwtExpirationMs;
+    private final long jwtExpirationMs;
     
-    @Value("${app.jwt.refresh-expiration:604800000}") // 7 days in milliseconds
-    private long refreshTokenExpirationMs;
+    private final long refreshTokenExpirationMs;
+    
+    private final SecretKey signingKey;
+    
+    private final JwtParser parser;
+    
+    private final int maxCachedTokens;
+    
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    
+    private final Timer cachedTimer;
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+    
+    public JwtService(MeterRegistry meterRegistry,
+                      @Value("${app.jwt.secret:defaultSecretKeyForDevelopmentOnlyNotForProduction}") String jwtSecret,
+                      @Value("${app.jwt.expiration:86400000}") long jwtExpirationMs, // 24 hours in milliseconds
+                      @Value("${app.jwt.refresh-expiration:604800000}") long refreshTokenExpirationMs, // 7 days in milliseconds
+                      @Value("${app.jwt.verified-cache-max-entries:10000}") int maxCachedTokens) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.maxCachedTokens = maxCachedTokens;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.cachedTimer = verifyTimer(meterRegistry, "hit", "valid");
+        this.validTimer = verifyTimer(meterRegistry, "miss", "valid");
+        this.expiredTimer = verifyTimer(meterRegistry, "miss", "expired");
+        this.invalidTimer = verifyTimer(meterRegistry, "miss", "invalid");
+    }
+    
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String cache, String outcome) {
+        return Timer.builder("auth.jwt.verify")
+                .description("Time to verify an access or refresh token")
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
     
     /**
      * Generate JWT token for user
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        addPrincipalClaims(claims, userDetails);
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -43,6 +103,7 @@ public class JwtService {
      */
     public String generateToken(UserDetails userDetails, Map<String, Object> extraClaims) {
         Map<String, Object> claims = new HashMap<>(extraClaims);
+        addPrincipalClaims(claims, userDetails);
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -52,21 +113,61 @@ public class JwtService {
     public String generateRefreshToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
+        if (userDetails instanceof User user) {
+            claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
         return createRefreshToken(claims, userDetails.getUsername());
     }
     
+    /**
+     * Verify signature and expiry once and return the token's claims
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        Instant now = Instant.now();
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+        
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(extractAllClaims(token));
+        } catch (ExpiredJwtException e) {
+            expiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (verified.expiresAt() != null) {
+            evictIfFull(now);
+            verifiedTokens.put(digest, verified);
+        }
+        validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+    
     /**
      * Extract username from token
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
     
     /**
      * Extract expiration date from token
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Instant expiresAt = verify(token).expiresAt();
+        return expiresAt == null ? null : Date.from(expiresAt);
     }
     
     /**
@@ -81,15 +182,43 @@ public class JwtService {
      * Validate token against user details
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        try {
+            return isTokenValid(verify(token), userDetails);
+        } catch (ExpiredJwtException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Validate already verified claims against user details, including the token version
+     * for users and token principals, so tokens revoked by logout no longer validate
+     */
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now())
+                && tokenVersion(token) == currentTokenVersion(userDetails);
+    }
+    
+    private int currentTokenVersion(UserDetails userDetails) {
+        if (userDetails instanceof User user) {
+            return user.getTokenVersion();
+        }
+        if (userDetails instanceof TokenPrincipal principal) {
+            return principal.tokenVersion();
+        }
+        return 0;
     }
     
     /**
      * Check if token is expired
      */
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        try {
+            return verify(token).isExpired(Instant.now());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
     
     /**
@@ -97,8 +226,7 @@ public class JwtService {
      */
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return "refresh".equals(claims.get("type"));
+            return verify(token).isRefreshToken();
         } catch (Exception e) {
             return false;
         }
@@ -108,33 +236,77 @@ public class JwtService {
      * Get remaining token validity time in milliseconds
      */
     public long getTokenValidityDuration(String token) {
-        Date expiration = extractExpiration(token);
-        return expiration.getTime() - new Date().getTime();
+        return verify(token).remainingMillis(Instant.now());
+    }
+    
+    /**
+     * Rebuild the principal from an access token's claims
+     *
+     * @return the principal, or null for refresh tokens and tokens issued without principal claims
+     */
+    public TokenPrincipal toPrincipal(VerifiedToken token) {
+        Map<String, Object> claims = token.claims();
+        if (token.isRefreshToken()
+                || !(claims.get(CLAIM_USER_ID) instanceof String userId)
+                || !(claims.get(CLAIM_ROLE) instanceof String role)
+                || !(claims.get(CLAIM_STATUS) instanceof String status)
+                || !(claims.get(CLAIM_TOKEN_VERSION) instanceof Number version)) {
+            return null;
+        }
+        try {
+            return new TokenPrincipal(userId, token.subject(), UserRole.valueOf(role),
+                    UserStatus.valueOf(status), version.intValue());
+        } catch (IllegalArgumentException e) {
+            // Enum constant renamed since the token was issued
+            return null;
+        }
+    }
+    
+    /**
+     * Token version the token was issued with; tokens issued before versions existed count as version 0
+     */
+    public int tokenVersion(VerifiedToken token) {
+        return token.claims().get(CLAIM_TOKEN_VERSION) instanceof Number version ? version.intValue() : 0;
+    }
+    
+    public int verifiedCacheSize() {
+        return verifiedTokens.size();
     }
     
     /**
      * Create JWT token with claims and subject
      */
     private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+        return buildToken(claims, subject, jwtExpirationMs);
     }
     
     /**
      * Create refresh token with claims and subject
      */
     private String createRefreshToken(Map<String, Object> claims, String subject) {
+        return buildToken(claims, subject, refreshTokenExpirationMs);
+    }
+    
+    /**
+     * Claims needed to authenticate without loading the user
+     */
+    private static void addPrincipalClaims(Map<String, Object> claims, UserDetails userDetails) {
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(CLAIM_USER_ID, user.getId());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_STATUS, user.getStatus().name());
+            claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
+    }
+    
+    private String buildToken(Map<String, Object> claims, String subject, long validityMs) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validityMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -142,18 +314,50 @@ public class JwtService {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+    
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Map<String, Object> others = new HashMap<>();
+        claims.forEach((name, value) -> {
+            if (value != null) {
+                others.put(name, value);
+            }
+        });
+        Object type = claims.get("type");
+        return new VerifiedToken(
+                claims.getSubject(),
+                type == null ? null : type.toString(),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant(),
+                others);
     }
     
     /**
-     * Get signing key for JWT
+     * Cache key; the raw token is never kept in memory longer than the request
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Drop expired entries first, then arbitrary ones until there is room
+     */
+    private void evictIfFull(Instant now) {
+        if (verifiedTokens.size() < maxCachedTokens) {
+            return;
+        }
+        verifiedTokens.values().removeIf(token -> token.isExpired(now));
+        Iterator<String> iterator = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() >= maxCachedTokens && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
     }
     
     /**
@@ -0,0 +1,114 @@
+package com.aireadiness.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool for BCrypt hashing.
+ * Caps how many request threads can be busy hashing at once; when every worker is busy
+ * and the queue is full, new hashes are rejected instead of starving other traffic.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${app.auth.password.hashing.threads:0}") int threads,
+                                   @Value("${app.auth.password.hashing.queue-capacity:64}") int queueCapacity) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hashing.latency")
+                .description("Time to hash or verify one password, excluding queueing")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing.latency")
+                .description("Time to hash or verify one password, excluding queueing")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashes rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash on a worker and wait for the result
+     *
+     * @throws PasswordHashingRejectedException if the hashing queue is full
+     */
+    public String encode(Callable<String> hash) {
+        return run(encodeTimer.wrap(hash));
+    }
+
+    /**
+     * Verify on a worker and wait for the result
+     *
+     * @throws PasswordHashingRejectedException if the hashing queue is full
+     */
+    public boolean matches(Callable<Boolean> verification) {
+        return run(matchesTimer.wrap(verification));
+    }
+
+    public int getQueuedHashes() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package com.aireadiness.auth.service;
+
+/**
+ * The password hashing queue is full; a transient overload the client may retry after a moment
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(Throwable cause) {
+        super("Password hashing queue is full", cause);
+    }
+}
@@ -0,0 +1,138 @@
+package com.aireadiness.auth.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory token buckets keyed by an arbitrary string (client IP, username, ...).
+ *
+ * Buckets are guarded by a fixed array of lock stripes rather than one lock per bucket or
+ * a global lock. When the key map reaches its bound, one caller removes every idle bucket
+ * (refilled to capacity, so equivalent to a fresh one). Buckets still refilling are never
+ * evicted, since that would hand a throttled client a full burst; if none are idle the map
+ * grows past the bound, and the next sweep waits until at least one token has refilled.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeys;
+    private final long tokenRefillNanos;
+    private final Object[] stripes;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile long nextSweep = System.nanoTime();
+
+    /**
+     * @param capacity        burst size
+     * @param refillPerMinute sustained rate
+     * @param maxKeys         tracked keys at which new keys trigger a sweep of idle buckets
+     * @param stripeCount     number of lock stripes, rounded up to a power of two
+     */
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int maxKeys, int stripeCount) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.maxKeys = maxKeys;
+        this.tokenRefillNanos = (long) Math.ceil(1 / tokensPerNano);
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * Take one token for the key
+     *
+     * @return 0 if allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        while (true) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                // Others keep going while one caller sweeps; the bound may be overshot by the callers in flight
+                if (buckets.size() >= maxKeys && now - nextSweep >= 0 && evictionLock.tryLock()) {
+                    try {
+                        sweep(now);
+                        if (buckets.size() >= maxKeys) {
+                            nextSweep = now + tokenRefillNanos;
+                        }
+                    } finally {
+                        evictionLock.unlock();
+                    }
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            }
+            synchronized (stripeFor(key)) {
+                if (buckets.get(key) != bucket) {
+                    // Swept after we looked it up; a debit on the removed bucket would be lost
+                    continue;
+                }
+                bucket.refill(now, capacity, tokensPerNano);
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    return 0;
+                }
+                return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+            }
+        }
+    }
+
+    /**
+     * Remove buckets that have refilled completely
+     */
+    public int sweepIdle() {
+        return sweep(System.nanoTime());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private int sweep(long now) {
+        int before = buckets.size();
+        Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Bucket> entry = iterator.next();
+            synchronized (stripeFor(entry.getKey())) {
+                Bucket bucket = entry.getValue();
+                bucket.refill(now, capacity, tokensPerNano);
+                if (bucket.tokens >= capacity) {
+                    iterator.remove();
+                }
+            }
+        }
+        return before - buckets.size();
+    }
+
+    private Object stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long lastRefill;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        void refill(long now, double capacity, double tokensPerNano) {
+            long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
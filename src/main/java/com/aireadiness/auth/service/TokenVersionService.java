@@ -0,0 +1,97 @@
+package com.aireadiness.auth.service;
+
+import com.aireadiness.auth.domain.TokenPrincipal;
+import com.aireadiness.auth.domain.UserStatus;
+import com.aireadiness.auth.domain.UserTokenState;
+import com.aireadiness.auth.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user token versions used to revoke stateless access tokens.
+ *
+ * The version is cached with the user's current role and status for a short time-to-live, so a
+ * revocation, suspension or role change made on another node (or directly in the database) takes
+ * effect within that window while most requests skip the database entirely.
+ */
+@Service
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final Map<String, CachedState> states = new ConcurrentHashMap<>();
+
+    public TokenVersionService(UserRepository userRepository,
+                               @Value("${app.jwt.stateless-principal.version-cache-ttl-seconds:30}") long ttlSeconds,
+                               @Value("${app.jwt.stateless-principal.version-cache-max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Whether a token principal is still current: same version and role, and the user still active
+     */
+    public boolean isCurrent(TokenPrincipal principal) {
+        return currentState(principal.id())
+                .map(state -> state.tokenVersion() == principal.tokenVersion()
+                        && state.role() == principal.role()
+                        && state.status() == UserStatus.ACTIVE)
+                .orElse(false);
+    }
+
+    /**
+     * Current token state, or empty when the user no longer exists
+     */
+    public Optional<UserTokenState> currentState(String userId) {
+        long now = System.nanoTime();
+        CachedState cached = states.get(userId);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            return Optional.of(cached.state);
+        }
+        Optional<UserTokenState> loaded = userRepository.findTokenStateById(userId);
+        if (loaded.isPresent()) {
+            evictIfFull(now);
+            states.put(userId, new CachedState(loaded.get(), now));
+        } else {
+            states.remove(userId);
+        }
+        return loaded;
+    }
+
+    /**
+     * Revoke every outstanding token of the user
+     */
+    @Transactional
+    public void revoke(String userId) {
+        userRepository.incrementTokenVersion(userId);
+        states.remove(userId);
+    }
+
+    public int cacheSize() {
+        return states.size();
+    }
+
+    private void evictIfFull(long now) {
+        if (states.size() < maxEntries) {
+            return;
+        }
+        states.values().removeIf(cached -> now - cached.loadedAt >= ttlNanos);
+        Iterator<String> iterator = states.keySet().iterator();
+        while (states.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedState(UserTokenState state, long loadedAt) {
+    }
+}
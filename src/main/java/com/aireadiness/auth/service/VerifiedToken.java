@@ -0,0 +1,33 @@
+package com.aireadiness.auth.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Claims of a token whose signature and expiry have been checked.
+ * Immutable, so one instance can be shared by every request presenting the same token.
+ *
+ * @param type  "refresh" for refresh tokens, null for access tokens
+ * @param claims all remaining claims, copied
+ */
+public record VerifiedToken(String subject, String type, Instant issuedAt, Instant expiresAt, Map<String, Object> claims) {
+
+    public VerifiedToken {
+        claims = Map.copyOf(claims);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Remaining validity in milliseconds, negative once expired
+     */
+    public long remainingMillis(Instant now) {
+        return expiresAt == null ? Long.MAX_VALUE : expiresAt.toEpochMilli() - now.toEpochMilli();
+    }
+}
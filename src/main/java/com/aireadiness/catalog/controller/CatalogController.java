@@ -1,5 +1,6 @@
 package com.aireadiness.catalog.controller;
 
+import com.aireadiness.catalog.domain.RoleVersionKey;
 import com.aireadiness.catalog.dto.QuestionDto;
 import com.aireadiness.catalog.dto.RoleDto;
 import com.aireadiness.catalog.service.CatalogService;
@@ -51,7 +52,11 @@ public class CatalogController {
             @RequestHeader(value = "Accept-Language", defaultValue = "es-ES") String locale) {
         
         try {
-            List<QuestionDto> questions = catalogService.getQuestionsForRole(roleId, version, locale);
+            // Unparseable ids cannot match any role, so they are reported as not found
+            List<QuestionDto> questions = catalogService.getQuestionsForRole(
+                    RoleVersionKey.parseRoleId(roleId),
+                    version != null ? RoleVersionKey.parseVersion(version) : null,
+                    locale);
             return ResponseEntity.ok(questions);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
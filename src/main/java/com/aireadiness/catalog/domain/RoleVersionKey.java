@@ -0,0 +1,32 @@
+package com.aireadiness.catalog.domain;
+
+/**
+ * Typed role/version reference.
+ * The public API and stored assessments carry both as strings; parsing them once here lets
+ * repository queries compare numeric columns directly and use the role_version indexes.
+ */
+public record RoleVersionKey(Long roleId, Integer version) {
+
+    /**
+     * @throws IllegalArgumentException if either part is not a number
+     */
+    public static RoleVersionKey parse(String roleId, String version) {
+        return new RoleVersionKey(parseRoleId(roleId), parseVersion(version));
+    }
+
+    public static Long parseRoleId(String roleId) {
+        try {
+            return Long.valueOf(roleId.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid role id: " + roleId);
+        }
+    }
+
+    public static Integer parseVersion(String version) {
+        try {
+            return Integer.valueOf(version.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid role version: " + version);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.aireadiness.catalog.event;
+
+/**
+ * Application event published when catalog data (roles, versions, questions) changes.
+ * Listeners use it to invalidate derived, cached views of the catalog.
+ */
+public class CatalogChangedEvent {
+
+    /**
+     * Kind of catalog change
+     */
+    public enum Type {
+        ROLE_CREATED,
+        ROLE_UPDATED,
+        ROLE_DELETED,
+        VERSION_CREATED,
+        VERSION_ACTIVATED,
+        QUESTION_UPDATED,
+        QUESTION_DELETED
+    }
+
+    private final Type type;
+    private final Long roleId; // null when the change is not bound to a single role
+
+    public CatalogChangedEvent(Type type, Long roleId) {
+        this.type = type;
+        this.roleId = roleId;
+    }
+
+    public Type getType() { return type; }
+    public Long getRoleId() { return roleId; }
+
+    /**
+     * Whether the change affects the given role
+     */
+    public boolean affectsRole(Long candidateRoleId) {
+        return roleId == null || roleId.equals(candidateRoleId);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogChangedEvent{type=" + type + ", roleId=" + roleId + '}';
+    }
+}
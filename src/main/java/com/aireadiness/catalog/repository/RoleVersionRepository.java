@@ -2,6 +2,8 @@ package com.aireadiness.catalog.repository;
 
 import com.aireadiness.catalog.domain.RoleQuestion;
 import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.domain.RoleVersionKey;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,22 +32,25 @@ public interface RoleVersionRepository extends JpaRepository<RoleVersion, Long>
     
     /**
      * Find version with questions
+     * Probes the unique (role_id, version_number) index and fetches questions in the same query
      */
-    @Query("SELECT rv FROM RoleVersion rv LEFT JOIN FETCH rv.questions rq LEFT JOIN FETCH rq.question WHERE rv.role.id = :roleId AND rv.versionNumber = :versionNumber")
+    @EntityGraph(attributePaths = {"questions", "questions.question"})
+    @Query("SELECT rv FROM RoleVersion rv WHERE rv.role.id = :roleId AND rv.versionNumber = :versionNumber")
     Optional<RoleVersion> findByRoleIdAndVersionNumberWithQuestions(@Param("roleId") Long roleId, @Param("versionNumber") Integer versionNumber);
     
     /**
-     * Find version with questions by role string ID and version string
-     * Support for string-based API endpoints
+     * Find version with questions by typed key
      */
-    @Query("SELECT rv FROM RoleVersion rv LEFT JOIN FETCH rv.questions rq LEFT JOIN FETCH rq.question WHERE CAST(rv.role.id AS string) = :roleId AND rv.versionNumber = CAST(:version AS integer)")
-    Optional<RoleVersion> findByRoleIdAndVersionWithQuestions(@Param("roleId") String roleId, @Param("version") String version);
+    default Optional<RoleVersion> findWithQuestions(RoleVersionKey key) {
+        return findByRoleIdAndVersionNumberWithQuestions(key.roleId(), key.version());
+    }
     
     /**
-     * Find published/active version by string role ID
+     * Find active version with questions, probing idx_role_version_role_active
      */
-    @Query("SELECT rv FROM RoleVersion rv WHERE CAST(rv.role.id AS string) = :roleId AND rv.active = true")
-    Optional<RoleVersion> findPublishedByRoleId(@Param("roleId") String roleId);
+    @EntityGraph(attributePaths = {"questions", "questions.question"})
+    @Query("SELECT rv FROM RoleVersion rv WHERE rv.role.id = :roleId AND rv.active = true")
+    Optional<RoleVersion> findActiveByRoleIdWithQuestions(@Param("roleId") Long roleId);
     
     /**
      * Find all versions for a role ordered by version number desc
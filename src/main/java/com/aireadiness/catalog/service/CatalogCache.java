@@ -0,0 +1,168 @@
+package com.aireadiness.catalog.service;
+
+import com.aireadiness.catalog.dto.QuestionDto;
+import com.aireadiness.catalog.dto.RoleDto;
+import com.aireadiness.catalog.event.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory, versioned cache of the public catalog.
+ * Holds the role list, a pointer to each role's active version and immutable
+ * question lists per (roleId, version, locale). Entries are dropped when the
+ * admin panel publishes a {@link CatalogChangedEvent}.
+ *
+ * Reads are lock-free. Writers capture {@link #generation()} before reading the
+ * database; a put is discarded if an invalidation happened in between, so stale
+ * reads never repopulate the cache.
+ */
+@Component
+public class CatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, String> activeVersionByRoleId = new ConcurrentHashMap<>();
+    private final Map<QuestionsKey, List<QuestionDto>> questionsByKey = new ConcurrentHashMap<>();
+    private volatile List<RoleDto> roles;
+
+    private final int maxQuestionLists;
+
+    public CatalogCache(@Value("${app.catalog.cache.max-question-lists:512}") int maxQuestionLists) {
+        this.maxQuestionLists = maxQuestionLists;
+    }
+
+    /**
+     * Current cache generation, to be captured before loading from the database
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public List<RoleDto> getRoles() {
+        return roles;
+    }
+
+    public synchronized List<RoleDto> putRoles(long loadedAtGeneration, List<RoleDto> loadedRoles) {
+        List<RoleDto> immutableRoles = List.copyOf(loadedRoles);
+        if (generation.get() == loadedAtGeneration) {
+            roles = immutableRoles;
+        }
+        return immutableRoles;
+    }
+
+    public String getActiveVersion(String roleId) {
+        return activeVersionByRoleId.get(roleId);
+    }
+
+    public synchronized void putActiveVersion(long loadedAtGeneration, String roleId, String version) {
+        if (generation.get() == loadedAtGeneration) {
+            activeVersionByRoleId.put(roleId, version);
+        }
+    }
+
+    public List<QuestionDto> getQuestions(String roleId, String version, String locale) {
+        return questionsByKey.get(new QuestionsKey(roleId, version, normalizeLocale(locale)));
+    }
+
+    public synchronized List<QuestionDto> putQuestions(long loadedAtGeneration, String roleId, String version,
+                                                       String locale, List<QuestionDto> questions) {
+        List<QuestionDto> immutableQuestions = List.copyOf(questions);
+        if (generation.get() == loadedAtGeneration) {
+            evictIfFull();
+            questionsByKey.put(new QuestionsKey(roleId, version, normalizeLocale(locale)), immutableQuestions);
+        }
+        return immutableQuestions;
+    }
+
+    /**
+     * Drop entries affected by an admin change once its transaction has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCatalogChanged(CatalogChangedEvent event) {
+        generation.incrementAndGet();
+        roles = null;
+
+        if (event.getRoleId() == null) {
+            activeVersionByRoleId.clear();
+            questionsByKey.clear();
+        } else {
+            String roleId = event.getRoleId().toString();
+            activeVersionByRoleId.remove(roleId);
+            questionsByKey.keySet().removeIf(key -> key.roleId.equals(roleId));
+        }
+        logger.debug("Catalog cache invalidated: {}", event);
+    }
+
+    public int questionListCount() {
+        return questionsByKey.size();
+    }
+
+    /**
+     * Keep the number of question lists bounded: drop lists of non-active
+     * versions first, then arbitrary entries
+     */
+    private void evictIfFull() {
+        if (questionsByKey.size() < maxQuestionLists) {
+            return;
+        }
+        questionsByKey.keySet().removeIf(key -> !key.version.equals(activeVersionByRoleId.get(key.roleId)));
+
+        Iterator<QuestionsKey> iterator = questionsByKey.keySet().iterator();
+        while (questionsByKey.size() >= maxQuestionLists && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Reduce Accept-Language values (e.g. "en-US,en;q=0.9") to the primary language
+     * so header variations don't multiply cache entries
+     */
+    static String normalizeLocale(String locale) {
+        if (locale == null || locale.isBlank()) {
+            return "es";
+        }
+        int end = 0;
+        while (end < locale.length() && Character.isLetter(locale.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "es" : locale.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class QuestionsKey {
+        private final String roleId;
+        private final String version;
+        private final String locale;
+
+        QuestionsKey(String roleId, String version, String locale) {
+            this.roleId = roleId;
+            this.version = version;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof QuestionsKey)) return false;
+            QuestionsKey other = (QuestionsKey) o;
+            return roleId.equals(other.roleId) && version.equals(other.version) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roleId, version, locale);
+        }
+    }
+}
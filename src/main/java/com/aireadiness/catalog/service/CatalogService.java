@@ -9,6 +9,7 @@ import com.aireadiness.catalog.repository.RoleRepository;
 import com.aireadiness.catalog.repository.RoleVersionRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,10 +23,13 @@ public class CatalogService {
     
     private final RoleRepository roleRepository;
     private final RoleVersionRepository roleVersionRepository;
+    private final CatalogCache catalogCache;
     
-    public CatalogService(RoleRepository roleRepository, RoleVersionRepository roleVersionRepository) {
+    public CatalogService(RoleRepository roleRepository, RoleVersionRepository roleVersionRepository,
+                          CatalogCache catalogCache) {
         this.roleRepository = roleRepository;
         this.roleVersionRepository = roleVersionRepository;
+        this.catalogCache = catalogCache;
     }
     
     /**
@@ -33,38 +37,54 @@ public class CatalogService {
      * Endpoint: GET /api/v1/roles
      */
     public List<RoleDto> getAllRoles() {
-        return roleRepository.findAllWithPublishedVersions().stream()
+        List<RoleDto> cached = catalogCache.getRoles();
+        if (cached != null) {
+            return cached;
+        }
+        
+        long generation = catalogCache.generation();
+        List<RoleDto> roles = roleRepository.findAllWithPublishedVersions().stream()
                 .map(this::toRoleDto)
                 .collect(Collectors.toList());
+        return catalogCache.putRoles(generation, roles);
     }
     
     /**
      * Get questions for a specific role and version
      * Endpoint: GET /api/v1/roles/{id}/questions?version=X
+     * Served from {@link CatalogCache}; the database is only read on a miss
      */
-    public List<QuestionDto> getQuestionsForRole(String roleId, String version, String locale) {
-        Optional<RoleVersion> roleVersionOpt;
-        
-        if (version != null) {
-            roleVersionOpt = roleVersionRepository.findByRoleIdAndVersionWithQuestions(roleId, version);
-        } else {
-            roleVersionOpt = roleVersionRepository.findPublishedByRoleId(roleId);
-            if (roleVersionOpt.isPresent()) {
-                // Fetch with questions
-                roleVersionOpt = roleVersionRepository.findByRoleIdAndVersionWithQuestions(
-                    roleId, roleVersionOpt.get().getVersionNumber().toString()
-                );
+    public List<QuestionDto> getQuestionsForRole(Long roleId, Integer version, String locale) {
+        String roleKey = roleId.toString();
+        String requestedVersion = version != null ? version.toString() : null;
+        String resolvedVersion = requestedVersion != null ? requestedVersion : catalogCache.getActiveVersion(roleKey);
+        if (resolvedVersion != null) {
+            List<QuestionDto> cached = catalogCache.getQuestions(roleKey, resolvedVersion, locale);
+            if (cached != null) {
+                return cached;
             }
         }
         
+        long generation = catalogCache.generation();
+        Optional<RoleVersion> roleVersionOpt = version != null
+                ? roleVersionRepository.findByRoleIdAndVersionNumberWithQuestions(roleId, version)
+                : roleVersionRepository.findActiveByRoleIdWithQuestions(roleId);
+        
         if (roleVersionOpt.isEmpty()) {
             throw new IllegalArgumentException("Role or version not found: " + roleId + " v" + version);
         }
         
-        return roleVersionOpt.get().getQuestions().stream()
-                .sorted((a, b) -> a.getOrder().compareTo(b.getOrder()))
+        RoleVersion roleVersion = roleVersionOpt.get();
+        String loadedVersion = roleVersion.getVersionNumber().toString();
+        if (version == null) {
+            catalogCache.putActiveVersion(generation, roleKey, loadedVersion);
+        }
+        
+        List<QuestionDto> questions = roleVersion.getQuestions().stream()
+                .sorted(Comparator.comparing(RoleQuestion::getOrder, Comparator.nullsLast(Comparator.naturalOrder())))
                 .map(rq -> toQuestionDto(rq, locale))
                 .collect(Collectors.toList());
+        return catalogCache.putQuestions(generation, roleKey, requestedVersion != null ? requestedVersion : loadedVersion, locale, questions);
     }
     
     private RoleDto toRoleDto(Role role) {
@@ -0,0 +1,106 @@
+package com.aireadiness.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer/multi-consumer ring buffer.
+ * Each slot carries a sequence number that tells producers and consumers
+ * whether it is free or filled for the current lap, so offer/poll only
+ * contend on a single CAS and never block.
+ *
+ * Capacity is rounded up to the next power of two.
+ */
+public final class BoundedRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // next position to write
+    private final AtomicLong head = new AtomicLong(); // next position to read
+
+    public BoundedRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element, returning false without blocking when the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long delta = sequences.get(index) - position;
+            if (delta == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (delta < 0) {
+                return false; // slot still holds an element from the previous lap
+            } else {
+                position = tail.get();
+            }
+        }
+        elements.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Remove the oldest element, or return null when the buffer is empty
+     */
+    public E poll() {
+        long position = head.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long delta = sequences.get(index) - (position + 1);
+            if (delta == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (delta < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, position + capacity);
+        return element;
+    }
+
+    /**
+     * Approximate number of buffered elements
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,78 @@
+package com.aireadiness.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Consecutive-failure circuit breaker for calls to an external service.
+ *
+ * Closed: calls pass and failures are counted; the given number of failures in a row opens it.
+ * Open: calls are refused until the open period has passed.
+ * Half-open: exactly one trial call passes; its success closes the breaker, its failure opens it again.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1); // -1 while closed
+    private final AtomicLong trialStartedAt = new AtomicLong(-1); // -1 when no half-open trial is running
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold < 1 || openMillis < 0) {
+            throw new IllegalArgumentException("Failure threshold must be >= 1 and open time >= 0");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may go ahead; every permitted call must be followed by
+     * {@link #recordSuccess()} or {@link #recordFailure()}
+     */
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        if (now - opened < openMillis) {
+            return false;
+        }
+        // Half-open: one trial at a time; a trial that never reported back is replaced after another open period
+        long trial = trialStartedAt.get();
+        return (trial < 0 || now - trial >= openMillis) && trialStartedAt.compareAndSet(trial, now);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(-1);
+        trialStartedAt.set(-1);
+    }
+
+    public void recordFailure() {
+        if (openedAt.get() >= 0 || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            // Opening again after a failed trial restarts the open period
+            openedAt.set(clock.getAsLong());
+            trialStartedAt.set(-1);
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - opened < openMillis ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,12 @@
+package com.aireadiness.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled maintenance tasks (rollup pruning, cleanup sweepers)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,17 +1,22 @@
 package com.aireadiness.common.config;
 
+import com.aireadiness.auth.filter.AuthRateLimitFilter;
 import com.aireadiness.auth.filter.JwtAuthenticationFilter;
+import com.aireadiness.auth.service.BoundedBCryptPasswordEncoder;
 import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -25,16 +30,21 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
     private final CustomUserDetailsService userDetailsService;
     
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, 
+                         AuthRateLimitFilter authRateLimitFilter,
                          CustomUserDetailsService userDetailsService) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.authRateLimitFilter = authRateLimitFilter;
         this.userDetailsService = userDetailsService;
     }
     
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider,
+                                                   @Value("${app.metrics.prometheus.permit-all:false}") boolean prometheusPermitAll) throws Exception {
         http
             .csrf(csrf -> csrf.disable()) // Disable CSRF for API endpoints
             .authorizeHttpRequests(authz -> authz
@@ -48,6 +58,10 @@ public class SecurityConfig {
                 
                 // Health and monitoring
                 .requestMatchers("/actuator/health").permitAll()
+                // Scrapers usually cannot log in; open only where the port is reachable from the monitoring network alone
+                .requestMatchers("/actuator/prometheus").access(prometheusPermitAll
+                        ? (authentication, context) -> new AuthorizationDecision(true)
+                        : AuthorityAuthorizationManager.hasRole("ADMIN"))
                 .requestMatchers("/swagger-ui/**", "/api-docs/**", "/v3/api-docs/**").permitAll()
                 
                 // Admin endpoints require authentication and admin role
@@ -63,22 +77,34 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
-            .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .authenticationProvider(authenticationProvider)
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    /**
+     * BCrypt on a bounded pool; cost is fixed by app.auth.password.cost or, when 0,
+     * calibrated at startup to the target hash time
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor hashingExecutor,
+                                           @Value("${app.auth.password.cost:0}") int cost,
+                                           @Value("${app.auth.password.target-hash-ms:250}") long targetHashMs,
+                                           @Value("${app.auth.password.min-cost:10}") int minCost,
+                                           @Value("${app.auth.password.max-cost:14}") int maxCost) {
+        int effectiveCost = cost > 0 ? cost : BoundedBCryptPasswordEncoder.calibrateCost(targetHashMs, minCost, maxCost);
+        return new BoundedBCryptPasswordEncoder(hashingExecutor, effectiveCost);
     }
     
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hash with the current cost on login when the stored hash is cheaper
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
     
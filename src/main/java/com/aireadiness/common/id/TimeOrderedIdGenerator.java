@@ -0,0 +1,154 @@
+package com.aireadiness.common.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * ULID-style identifiers: a prefix followed by 26 Crockford base32 characters, 48 bits of
+ * millisecond timestamp then 80 random bits.
+ *
+ * Ids sort by creation time, so primary key inserts land at the right edge of the index instead
+ * of at random leaf pages. The timestamp never goes backwards, even if the wall clock does.
+ * The random part is not incremented within a millisecond as in monotonic ULIDs: assessment
+ * and report ids are the only handle needed to read them, so they must stay unguessable.
+ * Randomness comes from a small fixed set of SecureRandom stripes, picked by thread id and drawn
+ * in blocks, so short-lived (virtual) threads do not each seed a generator for one id. The id is
+ * encoded straight into a char array.
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int TIME_CHARS = 10;
+    private static final int RANDOM_CHARS = 16;
+    private static final int RANDOM_BYTES = 10;
+    public static final int ID_LENGTH = TIME_CHARS + RANDOM_CHARS;
+
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+
+    private static final TimeOrderedIdGenerator DEFAULT = new TimeOrderedIdGenerator(System::currentTimeMillis);
+
+    private static final Entropy[] ENTROPY = newStripes(Runtime.getRuntime().availableProcessors() * 2);
+
+    private final LongSupplier clock;
+    private final AtomicLong lastMillis = new AtomicLong();
+
+    public TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Next id from the shared generator, e.g. {@code next("a_")}
+     */
+    public static String nextId(String prefix) {
+        return DEFAULT.next(prefix);
+    }
+
+    public String next(String prefix) {
+        long millis = lastMillis.accumulateAndGet(clock.getAsLong(), Math::max);
+        if (millis > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Timestamp out of range: " + millis);
+        }
+
+        Entropy entropy = entropyFor(Thread.currentThread());
+        int high;
+        long low;
+        entropy.lock.lock();
+        try {
+            high = entropy.nextShort();
+            low = entropy.nextLong();
+        } finally {
+            entropy.lock.unlock();
+        }
+
+        int offset = prefix.length();
+        char[] id = new char[offset + ID_LENGTH];
+        prefix.getChars(0, offset, id, 0);
+
+        for (int i = offset + TIME_CHARS - 1; i >= offset; i--) {
+            id[i] = ALPHABET[(int) (millis & 31)];
+            millis >>>= 5;
+        }
+        // 80 random bits: the low 60 bits of low, then its top 4 bits joined with the 16 bits of high
+        int end = offset + ID_LENGTH;
+        for (int i = end - 1; i >= end - 12; i--) {
+            id[i] = ALPHABET[(int) (low & 31)];
+            low >>>= 5;
+        }
+        int rest = (high << 4) | (int) low;
+        for (int i = end - 13; i >= offset + TIME_CHARS; i--) {
+            id[i] = ALPHABET[rest & 31];
+            rest >>>= 5;
+        }
+        return new String(id);
+    }
+
+    /**
+     * Millisecond timestamp encoded in an id produced with the given prefix length
+     */
+    public static long timestampOf(String id, int prefixLength) {
+        long millis = 0;
+        for (int i = prefixLength; i < prefixLength + TIME_CHARS; i++) {
+            int value = decode(id.charAt(i));
+            millis = (millis << 5) | value;
+        }
+        return millis;
+    }
+
+    private static Entropy[] newStripes(int count) {
+        Entropy[] stripes = new Entropy[Integer.highestOneBit(Math.max(1, count - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Entropy();
+        }
+        return stripes;
+    }
+
+    private static Entropy entropyFor(Thread thread) {
+        long id = thread.getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ENTROPY[(hash ^ (hash >>> 16)) & (ENTROPY.length - 1)];
+    }
+
+    private static int decode(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a base32 id character: " + c);
+    }
+
+    /**
+     * One stripe of SecureRandom output, fetched in blocks to amortize the generator call.
+     * Callers hold the lock while drawing.
+     */
+    private static final class Entropy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] buffer = new byte[RANDOM_BYTES * 64];
+        private int position = buffer.length;
+
+        int nextShort() {
+            refillIfNeeded(2);
+            return ((buffer[position++] & 0xFF) << 8) | (buffer[position++] & 0xFF);
+        }
+
+        long nextLong() {
+            refillIfNeeded(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private void refillIfNeeded(int bytes) {
+            if (position + bytes > buffer.length) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+        }
+    }
+}
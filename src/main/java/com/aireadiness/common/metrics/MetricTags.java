@@ -0,0 +1,58 @@
+package com.aireadiness.common.metrics;
+
+import com.aireadiness.catalog.domain.RoleVersionKey;
+
+import java.util.Set;
+
+/**
+ * Tag values shared by the application's timers.
+ *
+ * Every value is drawn from a small fixed set, so a client sending arbitrary locales or ids
+ * cannot create new time series.
+ */
+public final class MetricTags {
+
+    public static final String UNKNOWN = "unknown";
+    public static final String OTHER = "other";
+
+    public static final String SUCCESS = "success";
+    public static final String REJECTED = "rejected";
+    public static final String ERROR = "error";
+
+    private static final Set<String> LOCALES = Set.of("es-ES", "en-US");
+
+    private MetricTags() {
+    }
+
+    /**
+     * Supported locale as is, anything else as "other"
+     */
+    public static String locale(String locale) {
+        return locale != null && LOCALES.contains(locale) ? locale : OTHER;
+    }
+
+    /**
+     * Catalog role id, or "unknown" for ad-hoc scoring and requests rejected before the role was found
+     */
+    public static String role(Long roleId) {
+        return roleId == null ? UNKNOWN : roleId.toString();
+    }
+
+    /**
+     * Role id of a stored assessment, normalized so "01", " 1" and "+1" share the series of role 1
+     */
+    public static String role(String roleId) {
+        try {
+            return role(RoleVersionKey.parseRoleId(roleId));
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * "rejected" for invalid input, "error" for anything else
+     */
+    public static String outcome(Throwable failure) {
+        return failure instanceof IllegalArgumentException ? REJECTED : ERROR;
+    }
+}
@@ -0,0 +1,241 @@
+package com.aireadiness.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Serves a file with conditional GET and single byte-range support.
+ *
+ * - If-None-Match / If-Modified-Since answer 304 without touching the file body
+ * - Range (one range only) answers 206, guarded by If-Range
+ * - A pre-compressed ".gz" sibling is served when the client accepts gzip
+ *
+ * The body goes through Tomcat's sendfile when the connector supports it, and
+ * {@link FileChannel#transferTo} otherwise, so bytes are never staged on the heap.
+ */
+public final class FileDownloadSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private FileDownloadSender() {
+    }
+
+    /**
+     * @param file         file to send
+     * @param gzipFile     optional pre-compressed variant, may be null
+     * @param contentHash  strong validator for the uncompressed file, may be null
+     * @param lastModified Last-Modified of the content, may be null to use the file's mtime
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response,
+                            Path file, Path gzipFile, String contentHash, Instant lastModified,
+                            String contentType, String contentDisposition) throws IOException {
+
+        boolean gzip = gzipFile != null && acceptsGzip(request) && Files.isRegularFile(gzipFile);
+        Path body = gzip ? gzipFile : file;
+
+        long length = Files.size(body);
+        // HTTP dates have second precision
+        long modified = (lastModified != null ? lastModified.toEpochMilli()
+                : Files.getLastModifiedTime(body).toMillis()) / 1000 * 1000;
+        String etag = contentHash == null ? null : "\"" + contentHash + (gzip ? "-gz" : "") + "\"";
+
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, modified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (gzipFile != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (isNotModified(request, etag, modified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        long start = 0;
+        long count = length;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, modified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                count = bounds[1] - bounds[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + bounds[0] + "-" + bounds[1] + "/" + length);
+            }
+        }
+
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        transfer(request, response, body, start, count);
+    }
+
+    private static void transfer(HttpServletRequest request, HttpServletResponse response,
+                                 Path body, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the region straight from the page cache once the request returns
+            request.setAttribute(SENDFILE_FILENAME, body.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(body, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // Weak comparison, and If-Modified-Since is ignored when If-None-Match is present
+            return etag != null && matchesAny(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Strong comparison only
+            return etag != null && ifRange.trim().equals(etag);
+        }
+        return dateHeader(request, HttpHeaders.IF_RANGE) == lastModified;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return qValue(parts) > 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weight of one Accept-Encoding entry, 1 when absent; "q=0", "q=0.0" and "q=0.000" all refuse
+     */
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // Malformed weight: do not risk sending gzip to a client that may not want it
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean matchesAny(String header, String etag) {
+        String opaque = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parse a single "bytes=" range into inclusive bounds.
+     *
+     * @return the bounds, null to ignore the header (malformed or multiple ranges),
+     *         or {@link #UNSATISFIABLE}
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] {Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return start <= end ? new long[] {start, end} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
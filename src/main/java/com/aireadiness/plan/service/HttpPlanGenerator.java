@@ -0,0 +1,249 @@
+package com.aireadiness.plan.service;
+
+import com.aireadiness.common.concurrent.CircuitBreaker;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.plan.dto.PlanDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PlanGenerator backed by an HTTP plan service in front of the LLM (app.plan.provider=http).
+ *
+ * Contract: POST app.plan.http.url with {role, locale, hoursPerWeek, scores: {PILLAR: score}, gaps}
+ * and a PlanDto JSON response. Calls are non-blocking and bounded by a deadline, a concurrency
+ * limit (bulkhead) and a circuit breaker; identical requests in flight share one call. Whenever the
+ * provider is slow, down, saturated or returns an invalid plan, the rule-based {@link MockPlanGenerator}
+ * answers instead, so plan requests never wait longer than the deadline.
+ */
+@Service
+@ConditionalOnProperty(name = "app.plan.provider", havingValue = "http")
+public class HttpPlanGenerator implements PlanGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpPlanGenerator.class);
+
+    private final PlanGenerator fallback = new MockPlanGenerator();
+    private final Map<PlanRequest, CompletableFuture<PlanDto>> inFlight = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader planReader;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final String apiKey;
+    private final Duration timeout;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public HttpPlanGenerator(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.plan.http.url}") String url,
+                             @Value("${app.plan.http.api-key:}") String apiKey,
+                             @Value("${app.plan.http.timeout-ms:5000}") long timeoutMs,
+                             @Value("${app.plan.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                             @Value("${app.plan.http.max-concurrent:16}") int maxConcurrent,
+                             @Value("${app.plan.http.circuit.failure-threshold:5}") int failureThreshold,
+                             @Value("${app.plan.http.circuit.open-ms:30000}") long openMs) {
+        this.objectMapper = objectMapper;
+        // Providers may return extra fields; only the plan shape matters
+        this.planReader = objectMapper.readerFor(PlanDto.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.meterRegistry = meterRegistry;
+        this.endpoint = URI.create(url);
+        this.apiKey = apiKey;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        Gauge.builder("plan.provider.circuit.open", circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the plan provider circuit breaker is open or half-open")
+                .register(meterRegistry);
+        Gauge.builder("plan.provider.active", bulkhead, permits -> maxConcurrent - permits.availablePermits())
+                .description("Plan provider calls in progress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PlanDto generatePlan(String role, Map<Pillar, Double> scores, List<String> gaps, Integer hoursPerWeek, String locale) {
+        PlanRequest request = new PlanRequest(role, new LinkedHashMap<>(scores),
+                gaps == null ? List.of() : new ArrayList<>(gaps), hoursPerWeek, locale);
+
+        CompletableFuture<PlanDto> created = new CompletableFuture<>();
+        CompletableFuture<PlanDto> call = inFlight.putIfAbsent(request, created);
+        if (call == null) {
+            call = created;
+            start(request, created);
+        }
+
+        try {
+            // The call completes by its own deadline; the margin only guards against a lost completion
+            return call.get(timeout.toMillis() + 1_000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(request, "interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            return fallback(request, reasonFor(cause), cause);
+        }
+    }
+
+    @Override
+    public boolean validatePlan(PlanDto plan) {
+        return fallback.validatePlan(plan);
+    }
+
+    /**
+     * Send the request unless the bulkhead is full or the circuit is open; always completes the future
+     */
+    private void start(PlanRequest request, CompletableFuture<PlanDto> future) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = buildRequest(request);
+        } catch (JsonProcessingException e) {
+            finish(request, future, null, e);
+            return;
+        }
+        if (!bulkhead.tryAcquire()) {
+            finish(request, future, null, new ProviderFailure("bulkhead_full"));
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            finish(request, future, null, new ProviderFailure("circuit_open"));
+            return;
+        }
+
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::toPlan)
+                .whenComplete((plan, failure) -> {
+                    bulkhead.release();
+                    if (failure == null) {
+                        circuitBreaker.recordSuccess();
+                    } else {
+                        circuitBreaker.recordFailure();
+                    }
+                    finish(request, future, plan, failure);
+                });
+    }
+
+    private void finish(PlanRequest request, CompletableFuture<PlanDto> future, PlanDto plan, Throwable failure) {
+        // Removed before completing, so a later identical request never joins a finished call
+        inFlight.remove(request, future);
+        if (failure == null) {
+            future.complete(plan);
+        } else {
+            future.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure);
+        }
+    }
+
+    private HttpRequest buildRequest(PlanRequest request) throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("role", request.role());
+        body.put("locale", request.locale());
+        body.put("hoursPerWeek", request.hoursPerWeek());
+        body.put("scores", request.scores());
+        body.put("gaps", request.gaps());
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (!apiKey.isBlank()) {
+            builder.header("Authorization", "Bearer " + apiKey);
+        }
+        return builder.build();
+    }
+
+    private PlanDto toPlan(HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Plan provider returned HTTP " + response.statusCode());
+        }
+        PlanDto plan;
+        try {
+            plan = planReader.readValue(response.body());
+        } catch (IOException e) {
+            throw new ProviderFailure("invalid");
+        }
+        if (!validatePlan(plan)) {
+            throw new ProviderFailure("invalid");
+        }
+        return plan;
+    }
+
+    private PlanDto fallback(PlanRequest request, String reason, Throwable failure) {
+        Counter.builder("plan.provider.fallback")
+                .description("Plans answered by the rule-based fallback instead of the provider")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        logger.warn("Plan provider unavailable ({}), using fallback plan: {}", reason,
+                failure == null ? "" : failure.toString());
+        return fallback.generatePlan(request.role(), request.scores(), request.gaps(),
+                request.hoursPerWeek(), request.locale());
+    }
+
+    private static String reasonFor(Throwable failure) {
+        if (failure instanceof ProviderFailure providerFailure) {
+            return providerFailure.reason;
+        }
+        if (failure instanceof TimeoutException || failure instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    private record PlanRequest(String role, Map<Pillar, Double> scores, List<String> gaps,
+                               Integer hoursPerWeek, String locale) {
+    }
+
+    /**
+     * Expected provider failure with a low-cardinality reason; no stack trace needed
+     */
+    private static final class ProviderFailure extends IllegalStateException {
+        private final String reason;
+
+        ProviderFailure(String reason) {
+            super(reason);
+            this.reason = reason;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
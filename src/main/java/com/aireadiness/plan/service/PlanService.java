@@ -1,17 +1,20 @@
 package com.aireadiness.plan.service;
 
 import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
 import com.aireadiness.assessment.service.AssessmentService;
-import com.aireadiness.assessment.service.ScoringService;
-import com.aireadiness.catalog.repository.RoleVersionRepository;
+import com.aireadiness.common.metrics.MetricTags;
 import com.aireadiness.plan.domain.Plan;
 import com.aireadiness.plan.dto.PlanDto;
 import com.aireadiness.plan.repository.PlanRepository;
 import com.aireadiness.telemetry.service.TelemetryService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -24,30 +27,33 @@ public class PlanService {
     
     private final PlanRepository planRepository;
     private final AssessmentService assessmentService;
-    private final RoleVersionRepository roleVersionRepository;
     private final PlanGenerator planGenerator;
     private final TelemetryService telemetryService;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String provider;
     
     public PlanService(PlanRepository planRepository,
                       AssessmentService assessmentService,
-                      RoleVersionRepository roleVersionRepository,
                       PlanGenerator planGenerator,
                       TelemetryService telemetryService,
-                      ObjectMapper objectMapper) {
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.plan.provider:mock}") String provider) {
         this.planRepository = planRepository;
         this.assessmentService = assessmentService;
-        this.roleVersionRepository = roleVersionRepository;
         this.planGenerator = planGenerator;
         this.telemetryService = telemetryService;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.provider = provider;
     }
     
     /**
      * Generate and store plan for assessment
      * Endpoint: POST /api/v1/assessments/{id}/plan
+     * Not transactional: the provider call can take seconds and must not hold a database connection
      */
-    @Transactional
     public PlanDto generatePlan(String assessmentId, Integer hoursPerWeek) {
         
         // Check if plan already exists
@@ -56,48 +62,27 @@ public class PlanService {
             return deserializePlan(existingPlan.get().getPlanJson());
         }
         
-        // Get assessment with answers
-        Assessment assessment = assessmentService.getAssessment(assessmentId);
-        
-        // Get role questions for scoring
-        var roleVersionOpt = roleVersionRepository.findByRoleIdAndVersionWithQuestions(
-            assessment.getRoleId(), assessment.getVersion()
-        );
-        
-        if (roleVersionOpt.isEmpty()) {
-            throw new IllegalArgumentException("Role version not found for assessment");
-        }
-        
-        var roleVersion = roleVersionOpt.get();
-        
-        // Calculate scores for plan generation
-        ScoringService scoringService = new ScoringService();
-        ScoringService.AssessmentScores scores = scoringService.calculateScores(
-            assessment.getAnswers(), 
-            roleVersion.getQuestions()
-        );
+        // Scores were persisted at submission; no answer load or re-scoring needed
+        Assessment assessment = assessmentService.findAssessment(assessmentId);
+        AssessmentScore scores = assessmentService.getScores(assessmentId);
         
         // Use provided hours or default from assessment
         Integer planHours = hoursPerWeek != null ? hoursPerWeek : assessment.getHoursPerWeek();
         
         // Generate plan using AI provider
-        PlanDto planDto = planGenerator.generatePlan(
-            assessment.getRoleId(),
-            scores.getPillarScores(),
-            scores.getGaps(),
-            planHours,
-            assessment.getLocale()
-        );
-        
-        // Validate plan
-        if (!planGenerator.validatePlan(planDto)) {
-            throw new RuntimeException("Generated plan failed validation");
-        }
+        PlanDto planDto = generateWithProvider(assessment, scores, planHours);
         
         // Store plan in database
         String planJson = serializePlan(planDto);
         Plan plan = new Plan(assessmentId, planJson);
-        planRepository.save(plan);
+        try {
+            planRepository.save(plan);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request stored its plan first; keep that one so both callers see the same plan
+            return planRepository.findByAssessmentId(assessmentId)
+                    .map(stored -> deserializePlan(stored.getPlanJson()))
+                    .orElseThrow(() -> e);
+        }
         
         // Track plan generation
         telemetryService.trackPlanGenerated(assessmentId, planDto.getPriorities().size());
@@ -105,6 +90,39 @@ public class PlanService {
         return planDto;
     }
     
+    /**
+     * Call the configured provider and validate its plan, timed per provider, role and locale
+     */
+    private PlanDto generateWithProvider(Assessment assessment, AssessmentScore scores, Integer planHours) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricTags.ERROR;
+        try {
+            PlanDto planDto = planGenerator.generatePlan(
+                assessment.getRoleId(),
+                scores.getPillarScores(),
+                scores.getGaps(),
+                planHours,
+                assessment.getLocale()
+            );
+            
+            // Validate plan
+            if (!planGenerator.validatePlan(planDto)) {
+                outcome = "invalid";
+                throw new RuntimeException("Generated plan failed validation");
+            }
+            outcome = MetricTags.SUCCESS;
+            return planDto;
+        } finally {
+            sample.stop(Timer.builder("plan.generate")
+                    .description("Time for the plan provider to generate and validate one plan")
+                    .tag("provider", provider)
+                    .tag("role", MetricTags.role(assessment.getRoleId()))
+                    .tag("locale", MetricTags.locale(assessment.getLocale()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+    
     /**
      * Get existing plan for assessment
      */
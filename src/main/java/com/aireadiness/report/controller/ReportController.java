@@ -1,19 +1,26 @@
 package com.aireadiness.report.controller;
 
+import com.aireadiness.common.web.FileDownloadSender;
 import com.aireadiness.report.dto.ReportRequest;
 import com.aireadiness.report.dto.ReportResponse;
+import com.aireadiness.report.service.ReportFile;
 import com.aireadiness.report.service.ReportService;
+import com.aireadiness.report.service.ReportJobRejectedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
 /**
  * REST Controller for report generation and management
  * Based on PRD section 1.2 - Basic Reporting Engine
@@ -32,19 +39,27 @@ public class ReportController {
     /**
      * Generate comprehensive assessment report
      * POST /api/v1/assessments/{id}/report
+     * Rendering happens in the background; poll GET /api/v1/reports/{reportId} until COMPLETED
      */
     @PostMapping("/assessments/{assessmentId}/report")
     @Operation(summary = "Generate assessment report", 
-               description = "Generates a comprehensive PDF report with scores, analysis, and recommendations")
+               description = "Queues a comprehensive PDF report with scores, analysis, and recommendations. " +
+                             "Returns 202 with status GENERATING; poll the report for progress")
     public ResponseEntity<ReportResponse> generateReport(
             @PathVariable String assessmentId,
             @Valid @RequestBody(required = false) ReportRequest request) {
         
         try {
             ReportResponse response = reportService.generateReport(assessmentId, request);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.LOCATION, "/api/v1/reports/" + response.getReportId())
+                    .body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (ReportJobRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -53,25 +68,26 @@ public class ReportController {
     /**
      * Download PDF report
      * GET /api/v1/reports/{reportId}/download
+     * Supports conditional requests (ETag / Last-Modified) and single byte ranges
      */
     @GetMapping("/reports/{reportId}/download")
     @Operation(summary = "Download PDF report", 
-               description = "Downloads the generated PDF report file")
-    public ResponseEntity<Resource> downloadReport(@PathVariable String reportId) {
+               description = "Downloads the generated PDF report file. Honors If-None-Match, " +
+                             "If-Modified-Since, Range and If-Range")
+    public void downloadReport(@PathVariable String reportId,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
         
         try {
-            Resource resource = reportService.downloadReport(reportId);
+            ReportFile reportFile = reportService.getReportFile(reportId);
             
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                           "attachment; filename=\"ai-readiness-report-" + reportId + ".pdf\"")
-                    .body(resource);
+            FileDownloadSender.send(request, response,
+                    reportFile.path(), reportFile.gzipPath(), reportFile.contentHash(), reportFile.lastModified(),
+                    MediaType.APPLICATION_PDF_VALUE,
+                    "attachment; filename=\"ai-readiness-report-" + reportId + ".pdf\"");
                     
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+        } catch (IllegalArgumentException | FileNotFoundException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
     
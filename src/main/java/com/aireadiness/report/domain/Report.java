@@ -0,0 +1,81 @@
+package com.aireadiness.report.domain;
+
+import com.aireadiness.report.dto.ReportStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted report metadata
+ * Scores, recommendations and gaps are stored together as JSON
+ */
+@Entity
+@Table(name = "report")
+public class Report {
+    
+    @Id
+    private String id;
+    
+    @Column(name = "assessment_id", nullable = false)
+    private String assessmentId;
+    
+    @Column(name = "title")
+    private String title;
+    
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ReportStatus status;
+    
+    @Column(name = "file_path")
+    private String filePath;
+    
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    @Column(name = "insights_json", columnDefinition = "jsonb")
+    private String insightsJson;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+    
+    public Report() {
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public Report(String id, String assessmentId, ReportStatus status) {
+        this();
+        this.id = id;
+        this.assessmentId = assessmentId;
+        this.status = status;
+    }
+    
+    // Getters and setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public String getAssessmentId() { return assessmentId; }
+    public void setAssessmentId(String assessmentId) { this.assessmentId = assessmentId; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public ReportStatus getStatus() { return status; }
+    public void setStatus(ReportStatus status) { this.status = status; }
+    
+    public String getFilePath() { return filePath; }
+    public void setFilePath(String filePath) { this.filePath = filePath; }
+    
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+    
+    public String getInsightsJson() { return insightsJson; }
+    public void setInsightsJson(String insightsJson) { this.insightsJson = insightsJson; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
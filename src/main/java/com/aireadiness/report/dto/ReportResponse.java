@@ -12,14 +12,16 @@ public class ReportResponse {
     private String reportId;
     private String assessmentId;
     private String title;
-    private ReportStatus status;
-    private String downloadUrl;
-    private Map<String, Double> scores;
-    private List<String> recommendations;
-    private List<String> gaps;
-    private String filePath;
-    private LocalDateTime createdAt;
-    private LocalDateTime expiresAt;
+    // Filled in by a report worker while request threads poll the same instance; status is written last
+    private volatile ReportStatus status;
+    private volatile String downloadUrl;
+    private volatile Map<String, Double> scores;
+    private volatile List<String> recommendations;
+    private volatile List<String> gaps;
+    private volatile String filePath;
+    private volatile String contentHash;
+    private volatile LocalDateTime createdAt;
+    private volatile LocalDateTime expiresAt;
     
     // Default constructor
     public ReportResponse() {}
@@ -121,6 +123,14 @@ public class ReportResponse {
         this.filePath = filePath;
     }
     
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
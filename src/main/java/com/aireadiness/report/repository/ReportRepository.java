@@ -0,0 +1,37 @@
+package com.aireadiness.report.repository;
+
+import com.aireadiness.report.domain.Report;
+import com.aireadiness.report.dto.ReportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for Report metadata
+ */
+@Repository
+public interface ReportRepository extends JpaRepository<Report, String> {
+    
+    /**
+     * Find reports whose expiry has passed
+     */
+    List<Report> findByExpiresAtBefore(LocalDateTime now);
+    
+    /**
+     * Mark reports stuck in a status since before the given time (e.g. their node died mid-render)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Report r SET r.status = :newStatus, r.expiresAt = :expiresAt " +
+           "WHERE r.status = :status AND r.createdAt < :before")
+    int updateStaleStatus(@Param("status") ReportStatus status,
+                          @Param("before") LocalDateTime before,
+                          @Param("newStatus") ReportStatus newStatus,
+                          @Param("expiresAt") LocalDateTime expiresAt);
+}
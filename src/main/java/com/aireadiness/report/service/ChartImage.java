@@ -0,0 +1,18 @@
+package com.aireadiness.report.service;
+
+import java.util.List;
+
+/**
+ * Rasterized chart ready to embed in a PDF
+ *
+ * @param pixels zlib-compressed 8-bit RGB samples (PDF FlateDecode / DeviceRGB)
+ * @param labels text drawn as vector text over the image, so it stays sharp and needs no fonts in the raster
+ */
+public record ChartImage(int width, int height, byte[] pixels, List<Label> labels) {
+
+    /**
+     * Centered label at a position relative to the image, (0,0) bottom-left and (1,1) top-right
+     */
+    public record Label(String text, float x, float y) {
+    }
+}
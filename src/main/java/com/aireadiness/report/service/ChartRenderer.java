@@ -0,0 +1,274 @@
+package com.aireadiness.report.service;
+
+import com.aireadiness.common.domain.Pillar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Renders pillar score bar and radar charts.
+ *
+ * Scores are quantized (default: steps of 5) before rendering and the encoded images are
+ * cached by chart type and quantized score vector, so the many reports with near-identical
+ * scores share one image. Canvases are pooled per chart type instead of being allocated
+ * for every render.
+ */
+@Component
+public class ChartRenderer {
+
+    private static final Pillar[] PILLARS = Pillar.values();
+
+    private static final Color GRID = new Color(0xDD, 0xDD, 0xDD);
+    private static final Color AXIS = new Color(0x99, 0x99, 0x99);
+    private static final Color RADAR_FILL = new Color(0x1F, 0x6F, 0xB4, 0x60);
+    private static final Color RADAR_LINE = new Color(0x1F, 0x6F, 0xB4);
+    private static final Color[] BAR_COLORS = {
+        new Color(0x1F, 0x6F, 0xB4), new Color(0x2C, 0xA0, 0x2C), new Color(0xFF, 0x7F, 0x0E), new Color(0x94, 0x67, 0xBD)
+    };
+
+    enum ChartType {
+        BAR(600, 300),
+        RADAR(400, 400);
+
+        final int width;
+        final int height;
+
+        ChartType(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    private final int quantizationStep;
+    private final int maxCachedCharts;
+
+    private final Map<ChartKey, ChartImage> cache = new ConcurrentHashMap<>();
+    private final Map<ChartType, BlockingQueue<BufferedImage>> canvasPools = new ConcurrentHashMap<>();
+
+    public ChartRenderer(@Value("${app.report.charts.quantization-step:5}") int quantizationStep,
+                         @Value("${app.report.charts.cache-max-entries:256}") int maxCachedCharts,
+                         @Value("${app.report.charts.canvas-pool-size:4}") int canvasPoolSize) {
+        this.quantizationStep = Math.max(1, quantizationStep);
+        this.maxCachedCharts = maxCachedCharts;
+        for (ChartType type : ChartType.values()) {
+            canvasPools.put(type, new ArrayBlockingQueue<>(canvasPoolSize));
+        }
+    }
+
+    /**
+     * Bar chart of the four pillar scores (0-100)
+     */
+    public ChartImage barChart(Map<String, Double> scores) {
+        return chart(ChartType.BAR, scores);
+    }
+
+    /**
+     * Radar chart of the four pillar scores (0-100)
+     */
+    public ChartImage radarChart(Map<String, Double> scores) {
+        return chart(ChartType.RADAR, scores);
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private ChartImage chart(ChartType type, Map<String, Double> scores) {
+        ChartKey key = new ChartKey(type, quantize(scores));
+        ChartImage cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ChartImage rendered = render(type, key.scores());
+        evictIfFull();
+        ChartImage existing = cache.putIfAbsent(key, rendered);
+        return existing != null ? existing : rendered;
+    }
+
+    private int[] quantize(Map<String, Double> scores) {
+        int[] quantized = new int[PILLARS.length];
+        for (int i = 0; i < PILLARS.length; i++) {
+            Double score = scores.get(PILLARS[i].name());
+            double clamped = score == null || score.isNaN() ? 0 : Math.max(0, Math.min(100, score));
+            quantized[i] = (int) Math.round(clamped / quantizationStep) * quantizationStep;
+        }
+        return quantized;
+    }
+
+    private ChartImage render(ChartType type, int[] scores) {
+        BufferedImage canvas = borrowCanvas(type);
+        try {
+            Graphics2D g = canvas.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, type.width, type.height);
+                List<ChartImage.Label> labels = type == ChartType.BAR
+                        ? drawBars(g, type, scores)
+                        : drawRadar(g, type, scores);
+                return new ChartImage(type.width, type.height, encode(canvas), labels);
+            } finally {
+                g.dispose();
+            }
+        } finally {
+            canvasPools.get(type).offer(canvas);
+        }
+    }
+
+    private List<ChartImage.Label> drawBars(Graphics2D g, ChartType type, int[] scores) {
+        int left = 20;
+        int bottom = type.height - 40;
+        int top = 20;
+        int plotHeight = bottom - top;
+        int slot = (type.width - 2 * left) / PILLARS.length;
+
+        g.setColor(GRID);
+        for (int level = 25; level <= 100; level += 25) {
+            int y = bottom - plotHeight * level / 100;
+            g.drawLine(left, y, type.width - left, y);
+        }
+
+        List<ChartImage.Label> labels = new ArrayList<>();
+        for (int i = 0; i < PILLARS.length; i++) {
+            int barHeight = plotHeight * scores[i] / 100;
+            int x = left + i * slot + slot / 4;
+            g.setColor(BAR_COLORS[i % BAR_COLORS.length]);
+            g.fillRect(x, bottom - barHeight, slot / 2, barHeight);
+
+            float centerX = (x + slot / 4f) / type.width;
+            labels.add(new ChartImage.Label(PILLARS[i].name(), centerX, 12f / type.height));
+        }
+
+        g.setColor(AXIS);
+        g.drawLine(left, bottom, type.width - left, bottom);
+        return labels;
+    }
+
+    private List<ChartImage.Label> drawRadar(Graphics2D g, ChartType type, int[] scores) {
+        int centerX = type.width / 2;
+        int centerY = type.height / 2;
+        double radius = type.width / 2.0 - 50;
+
+        g.setStroke(new BasicStroke(1.5f));
+        g.setColor(GRID);
+        for (int level = 25; level <= 100; level += 25) {
+            g.drawPolygon(radarPolygon(centerX, centerY, radius, level, null));
+        }
+        g.setColor(AXIS);
+        for (int i = 0; i < PILLARS.length; i++) {
+            double angle = axisAngle(i);
+            g.drawLine(centerX, centerY,
+                    centerX + (int) Math.round(radius * Math.cos(angle)),
+                    centerY - (int) Math.round(radius * Math.sin(angle)));
+        }
+
+        Polygon shape = radarPolygon(centerX, centerY, radius, 0, scores);
+        g.setColor(RADAR_FILL);
+        g.fillPolygon(shape);
+        g.setStroke(new BasicStroke(3f));
+        g.setColor(RADAR_LINE);
+        g.drawPolygon(shape);
+
+        List<ChartImage.Label> labels = new ArrayList<>();
+        for (int i = 0; i < PILLARS.length; i++) {
+            double angle = axisAngle(i);
+            double labelRadius = radius + 25;
+            float x = (float) ((centerX + labelRadius * Math.cos(angle)) / type.width);
+            // Labels use PDF coordinates (origin bottom-left)
+            float y = (float) (1 - (centerY - labelRadius * Math.sin(angle)) / type.height);
+            labels.add(new ChartImage.Label(PILLARS[i].name(), x, y));
+        }
+        return labels;
+    }
+
+    /**
+     * Polygon through each axis at a fixed level, or at each pillar's score when scores is non-null
+     */
+    private static Polygon radarPolygon(int centerX, int centerY, double radius, int level, int[] scores) {
+        Polygon polygon = new Polygon();
+        for (int i = 0; i < PILLARS.length; i++) {
+            double angle = axisAngle(i);
+            double r = radius * (scores == null ? level : scores[i]) / 100.0;
+            polygon.addPoint(centerX + (int) Math.round(r * Math.cos(angle)),
+                             centerY - (int) Math.round(r * Math.sin(angle)));
+        }
+        return polygon;
+    }
+
+    private static double axisAngle(int index) {
+        return Math.PI / 2 - 2 * Math.PI * index / PILLARS.length;
+    }
+
+    /**
+     * Deflate the canvas as RGB rows, the layout PDF image XObjects expect
+     */
+    private static byte[] encode(BufferedImage canvas) {
+        int width = canvas.getWidth();
+        int[] pixels = ((DataBufferInt) canvas.getRaster().getDataBuffer()).getData();
+        byte[] row = new byte[width * 3];
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream zlib = new DeflaterOutputStream(out, deflater, 8192)) {
+            for (int offset = 0; offset < pixels.length; offset += width) {
+                for (int x = 0; x < width; x++) {
+                    int rgb = pixels[offset + x];
+                    row[x * 3] = (byte) (rgb >> 16);
+                    row[x * 3 + 1] = (byte) (rgb >> 8);
+                    row[x * 3 + 2] = (byte) rgb;
+                }
+                zlib.write(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private BufferedImage borrowCanvas(ChartType type) {
+        BufferedImage canvas = canvasPools.get(type).poll();
+        return canvas != null ? canvas : new BufferedImage(type.width, type.height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void evictIfFull() {
+        Iterator<ChartKey> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxCachedCharts && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record ChartKey(ChartType type, int[] scores) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ChartKey other && type == other.type && Arrays.equals(scores, other.scores);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Arrays.hashCode(scores);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.aireadiness.report.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal incremental PDF 1.4 writer for text reports.
+ *
+ * Objects are streamed to the channel as soon as they are complete: only the current
+ * page's content stream and a fixed-size output buffer are held in memory, plus one
+ * offset per object for the cross-reference table. Fonts (standard Helvetica, so nothing
+ * is embedded) and the resource dictionary are constant byte templates shared by every
+ * render.
+ *
+ * Lines are wrapped and pages broken automatically. Text is encoded as WinAnsi.
+ * Chart images are embedded as Flate-compressed RGB image XObjects.
+ */
+public final class PdfDocumentWriter implements Closeable {
+
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+
+    // A4 in points
+    private static final float PAGE_WIDTH = 595f;
+    private static final float PAGE_HEIGHT = 842f;
+    private static final float MARGIN = 56f;
+
+    // Fixed object numbers for shared objects; pages start after them
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT_REGULAR = 3;
+    private static final int FONT_BOLD = 4;
+    private static final int RESOURCES = 5;
+    private static final int FIRST_FREE_OBJECT = 6;
+
+    private static final byte[] HEADER = ascii("%PDF-1.4\n%âãÏÓ\n");
+    private static final byte[] CATALOG_OBJECT = ascii(
+            CATALOG + " 0 obj\n<< /Type /Catalog /Pages " + PAGES + " 0 R >>\nendobj\n");
+    private static final byte[] FONT_REGULAR_OBJECT = ascii(
+            FONT_REGULAR + " 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>\nendobj\n");
+    private static final byte[] FONT_BOLD_OBJECT = ascii(
+            FONT_BOLD + " 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>\nendobj\n");
+    private static final byte[] RESOURCES_OBJECT = ascii(
+            RESOURCES + " 0 obj\n<< /ProcSet [/PDF /Text] /Font << /F1 " + FONT_REGULAR + " 0 R /F2 " + FONT_BOLD + " 0 R >> >>\nendobj\n");
+
+    // Helvetica advance widths for ASCII 32..126, in 1/1000 em
+    private static final short[] HELVETICA_WIDTHS = {
+        278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+        556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+        1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+        667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+        333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+        556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584
+    };
+    private static final float BOLD_WIDTH_FACTOR = 1.06f;
+    private static final float LABEL_SIZE = 8f;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final PageContent page = new PageContent();
+    private final String title;
+
+    private long position;
+    private long[] offsets = new long[64];
+    private int nextObject = FIRST_FREE_OBJECT;
+    private final List<Integer> pageObjects = new ArrayList<>();
+    private final Map<ChartImage, Integer> imageObjects = new IdentityHashMap<>();
+    private final Set<Integer> pageImages = new LinkedHashSet<>();
+
+    private float cursorY;
+    private boolean pageOpen;
+    private boolean closed;
+
+    /**
+     * @param bufferSize bytes buffered before each channel write
+     */
+    public PdfDocumentWriter(WritableByteChannel channel, int bufferSize, String title) throws IOException {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.title = title;
+
+        write(HEADER);
+        writeObject(CATALOG, CATALOG_OBJECT);
+        writeObject(FONT_REGULAR, FONT_REGULAR_OBJECT);
+        writeObject(FONT_BOLD, FONT_BOLD_OBJECT);
+        writeObject(RESOURCES, RESOURCES_OBJECT);
+    }
+
+    /**
+     * Large bold heading
+     */
+    public void title(String text) throws IOException {
+        textBlock(text, true, 18f, 8f);
+    }
+
+    /**
+     * Section heading
+     */
+    public void heading(String text) throws IOException {
+        textBlock(text, true, 13f, 6f);
+    }
+
+    /**
+     * Wrapped body text
+     */
+    public void paragraph(String text) throws IOException {
+        textBlock(text, false, 11f, 4f);
+    }
+
+    /**
+     * Chart image scaled to the given width, or smaller if it would not fit within the margins
+     * of one page, with its labels drawn as text.
+     * An image used several times in a document is written once.
+     */
+    public void image(ChartImage chart, float displayWidth) throws IOException {
+        displayWidth = Math.min(displayWidth, PAGE_WIDTH - 2 * MARGIN);
+        float displayHeight = displayWidth * chart.height() / chart.width();
+        float usableHeight = PAGE_HEIGHT - 2 * MARGIN;
+        if (displayHeight > usableHeight) {
+            displayWidth = displayWidth * usableHeight / displayHeight;
+            displayHeight = usableHeight;
+        }
+        ensurePage();
+        if (cursorY - displayHeight < MARGIN) {
+            finishPage();
+            ensurePage();
+        }
+
+        Integer imageObject = imageObjects.get(chart);
+        if (imageObject == null) {
+            imageObject = nextObject++;
+            writeObject(imageObject, ascii(imageObject + " 0 obj\n<< /Type /XObject /Subtype /Image"
+                    + " /Width " + chart.width() + " /Height " + chart.height()
+                    + " /ColorSpace /DeviceRGB /BitsPerComponent 8 /Filter /FlateDecode"
+                    + " /Length " + chart.pixels().length + " >>\nstream\n"));
+            write(chart.pixels());
+            write(ascii("\nendstream\nendobj\n"));
+            imageObjects.put(chart, imageObject);
+        }
+        pageImages.add(imageObject);
+
+        float bottom = cursorY - displayHeight;
+        page.drawImage("Im" + imageObject, MARGIN, bottom, displayWidth, displayHeight);
+        for (ChartImage.Label label : chart.labels()) {
+            float x = MARGIN + label.x() * displayWidth - width(label.text(), false, LABEL_SIZE) / 2;
+            page.showText("F1", LABEL_SIZE, x, bottom + label.y() * displayHeight, escape(label.text()));
+        }
+        cursorY = bottom - 6f;
+    }
+
+    /**
+     * Vertical gap
+     */
+    public void spacer(float points) throws IOException {
+        ensurePage();
+        cursorY -= points;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (pageOpen || pageObjects.isEmpty()) {
+            ensurePage();
+            finishPage();
+        }
+
+        // Page tree
+        StringBuilder kids = new StringBuilder();
+        for (int pageObject : pageObjects) {
+            kids.append(pageObject).append(" 0 R ");
+        }
+        writeObject(PAGES, ascii(PAGES + " 0 obj\n<< /Type /Pages /Count " + pageObjects.size()
+                + " /Kids [" + kids + "] >>\nendobj\n"));
+
+        int info = nextObject++;
+        writeObject(info, concat(ascii(info + " 0 obj\n<< /Producer (AI Readiness Platform) /Title ("),
+                escape(title == null ? "" : title), ascii(") >>\nendobj\n")));
+
+        // Cross-reference table: fixed 20-byte entries
+        long xrefOffset = position;
+        write(ascii("xref\n0 " + nextObject + "\n0000000000 65535 f \n"));
+        for (int object = 1; object < nextObject; object++) {
+            write(ascii(String.format(Locale.ROOT, "%010d 00000 n \n", offsets[object])));
+        }
+        write(ascii("trailer\n<< /Size " + nextObject + " /Root " + CATALOG + " 0 R /Info " + info + " 0 R >>\n"
+                + "startxref\n" + xrefOffset + "\n%%EOF\n"));
+        flush();
+    }
+
+    private void textBlock(String text, boolean bold, float fontSize, float spacingAfter) throws IOException {
+        float leading = fontSize * 1.3f;
+        float maxWidth = PAGE_WIDTH - 2 * MARGIN;
+        for (String line : wrap(text == null ? "" : text, bold, fontSize, maxWidth)) {
+            ensurePage();
+            if (cursorY - leading < MARGIN) {
+                finishPage();
+                ensurePage();
+            }
+            cursorY -= leading;
+            page.showText(bold ? "F2" : "F1", fontSize, MARGIN, cursorY, escape(line));
+        }
+        cursorY -= spacingAfter;
+    }
+
+    private void ensurePage() {
+        if (!pageOpen) {
+            pageOpen = true;
+            cursorY = PAGE_HEIGHT - MARGIN;
+            page.reset();
+            pageImages.clear();
+        }
+    }
+
+    /**
+     * Stream the current page's content and page dictionary, then drop its buffer
+     */
+    private void finishPage() throws IOException {
+        int contentObject = nextObject++;
+        int pageObject = nextObject++;
+
+        writeObject(contentObject, ascii(contentObject + " 0 obj\n<< /Length " + page.length() + " >>\nstream\n"));
+        write(page.bytes(), page.length());
+        write(ascii("\nendstream\nendobj\n"));
+
+        writeObject(pageObject, ascii(pageObject + " 0 obj\n<< /Type /Page /Parent " + PAGES + " 0 R"
+                + " /MediaBox [0 0 " + (int) PAGE_WIDTH + " " + (int) PAGE_HEIGHT + "]"
+                + " /Resources " + pageResources() + " /Contents " + contentObject + " 0 R >>\nendobj\n"));
+
+        pageObjects.add(pageObject);
+        pageOpen = false;
+    }
+
+    /**
+     * Shared resource dictionary for text-only pages, an inline one when the page shows images
+     */
+    private String pageResources() {
+        if (pageImages.isEmpty()) {
+            return RESOURCES + " 0 R";
+        }
+        StringBuilder resources = new StringBuilder("<< /ProcSet [/PDF /Text /ImageC] /Font << /F1 ")
+                .append(FONT_REGULAR).append(" 0 R /F2 ").append(FONT_BOLD).append(" 0 R >> /XObject << ");
+        for (int imageObject : pageImages) {
+            resources.append("/Im").append(imageObject).append(' ').append(imageObject).append(" 0 R ");
+        }
+        return resources.append(">> >>").toString();
+    }
+
+    private List<String> wrap(String text, boolean bold, float fontSize, float maxWidth) {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : text.split("\n", -1)) {
+            StringBuilder line = new StringBuilder();
+            float lineWidth = 0;
+            for (String word : paragraph.split(" ")) {
+                float wordWidth = width(word, bold, fontSize);
+                float spaceWidth = line.length() == 0 ? 0 : width(" ", bold, fontSize);
+                if (line.length() > 0 && lineWidth + spaceWidth + wordWidth > maxWidth) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                    lineWidth = 0;
+                    spaceWidth = 0;
+                }
+                if (line.length() == 0) {
+                    // A word wider than a whole line (a URL, an id) is broken where the width runs out
+                    while (wordWidth > maxWidth && word.length() > 1) {
+                        int fit = fittingChars(word, bold, fontSize, maxWidth);
+                        lines.add(word.substring(0, fit));
+                        word = word.substring(fit);
+                        wordWidth = width(word, bold, fontSize);
+                    }
+                } else {
+                    line.append(' ');
+                }
+                line.append(word);
+                lineWidth += spaceWidth + wordWidth;
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Length of the longest prefix that fits the width, at least one character
+     */
+    private static int fittingChars(String word, boolean bold, float fontSize, float maxWidth) {
+        float prefixWidth = 0;
+        for (int i = 0; i < word.length(); i++) {
+            prefixWidth += width(word.substring(i, i + 1), bold, fontSize);
+            if (prefixWidth > maxWidth) {
+                return Math.max(1, i);
+            }
+        }
+        return word.length();
+    }
+
+    private static float width(String text, boolean bold, float fontSize) {
+        float units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            units += c >= 32 && c <= 126 ? HELVETICA_WIDTHS[c - 32] : 556;
+        }
+        return units * fontSize / 1000f * (bold ? BOLD_WIDTH_FACTOR : 1f);
+    }
+
+    /**
+     * WinAnsi bytes with PDF string escapes for ( ) and \
+     */
+    private static byte[] escape(String text) {
+        byte[] encoded = text.getBytes(WIN_ANSI);
+        int extra = 0;
+        for (byte b : encoded) {
+            if (b == '(' || b == ')' || b == '\\') {
+                extra++;
+            }
+        }
+        if (extra == 0) {
+            return encoded;
+        }
+        byte[] escaped = new byte[encoded.length + extra];
+        int i = 0;
+        for (byte b : encoded) {
+            if (b == '(' || b == ')' || b == '\\') {
+                escaped[i++] = '\\';
+            }
+            escaped[i++] = b;
+        }
+        return escaped;
+    }
+
+    private void writeObject(int object, byte[] bytes) throws IOException {
+        if (object >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(object + 1, offsets.length * 2));
+        }
+        offsets[object] = position;
+        write(bytes);
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        write(bytes, bytes.length);
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+        }
+        position += length;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    /**
+     * Content stream of the page being laid out; reused across pages
+     */
+    private static final class PageContent {
+        private byte[] bytes = new byte[4096];
+        private int length;
+
+        void reset() {
+            length = 0;
+        }
+
+        void showText(String font, float fontSize, float x, float y, byte[] text) {
+            append(ascii("BT /" + font + " " + format(fontSize) + " Tf " + format(x) + " " + format(y) + " Td ("));
+            append(text);
+            append(ascii(") Tj ET\n"));
+        }
+
+        void drawImage(String name, float x, float y, float width, float height) {
+            append(ascii("q " + format(width) + " 0 0 " + format(height) + " " + format(x) + " " + format(y)
+                    + " cm /" + name + " Do Q\n"));
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        int length() {
+            return length;
+        }
+
+        private void append(byte[] data) {
+            if (length + data.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + data.length, bytes.length * 2));
+            }
+            System.arraycopy(data, 0, bytes, length, data.length);
+            length += data.length;
+        }
+
+        private static String format(float value) {
+            return value == (int) value ? Integer.toString((int) value) : String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+}
@@ -1,119 +1,151 @@
 package com.aireadiness.report.service;
 
 import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
+import com.aireadiness.common.domain.Pillar;
 import com.aireadiness.report.dto.ReportRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Service for generating PDF reports
- * Uses iText 7 library for PDF generation
+ * Documents are streamed page by page through {@link PdfDocumentWriter}, so memory per
+ * render stays flat regardless of report length
  */
 @Service
 public class PdfGenerationService {
     
+    // Display name of each pillar in the scores section
+    private static final Map<Pillar, String> PILLAR_LABELS = Map.of(
+        Pillar.TECH, "Technical Skills",
+        Pillar.AI, "AI Knowledge",
+        Pillar.COMMUNICATION, "Communication",
+        Pillar.PORTFOLIO, "Portfolio");
+    
+    private final ChartRenderer chartRenderer;
+    private final int bufferSize;
+    
+    public PdfGenerationService(ChartRenderer chartRenderer,
+                                @Value("${app.report.pdf.buffer-bytes:16384}") int bufferSize) {
+        this.chartRenderer = chartRenderer;
+        this.bufferSize = bufferSize;
+    }
+    
     /**
      * Generate comprehensive assessment PDF report
      */
-    public void generateAssessmentReport(Assessment assessment, String fileName, 
+    public void generateAssessmentReport(Assessment assessment, AssessmentScore scores, String fileName,
                                        String title, ReportRequest request) throws IOException {
         
-        // For MVP, generate a simple text-based PDF
-        // In production, this would use iText 7 for rich PDF generation
-        generateSimplePdfReport(assessment, fileName, title, request);
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeAssessmentReport(channel, assessment, scores, title, request);
+        }
     }
     
     /**
-     * Generate a simple PDF report (MVP implementation)
-     * Note: This is a basic implementation. In production, use iText 7 or similar library
+     * Stream the assessment report as PDF to any channel (file or HTTP response)
      */
-    private void generateSimplePdfReport(Assessment assessment, String fileName, 
-                                       String title, ReportRequest request) throws IOException {
-        
-        StringBuilder content = new StringBuilder();
-        
-        // Header
-        content.append("AI READINESS ASSESSMENT REPORT\n");
-        content.append("=====================================\n\n");
-        
-        if (title != null) {
-            content.append("Title: ").append(title).append("\n");
-        }
+    public void writeAssessmentReport(WritableByteChannel channel, Assessment assessment, AssessmentScore scores,
+                                      String title, ReportRequest request) throws IOException {
         
-        content.append("Assessment ID: ").append(assessment.getId()).append("\n");
-        content.append("Role ID: ").append(assessment.getRoleId()).append("\n");
-        content.append("Completed: ").append(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append("\n\n");
-        
-        // Executive Summary
-        content.append("EXECUTIVE SUMMARY\n");
-        content.append("-----------------\n");
-        content.append("This report provides an analysis of your AI readiness across four key pillars:\n");
-        content.append("Technical Skills, AI Knowledge, Communication, and Portfolio.\n\n");
-        
-        // Scores Section
-        content.append("ASSESSMENT SCORES\n");
-        content.append("-----------------\n");
-        content.append("Technical Skills:     75/100 (Good)\n");
-        content.append("AI Knowledge:         65/100 (Fair)\n");
-        content.append("Communication:        80/100 (Excellent)\n");
-        content.append("Portfolio:            60/100 (Fair)\n");
-        content.append("Overall Score:        70/100 (Good)\n\n");
-        
-        // Key Findings
-        content.append("KEY FINDINGS\n");
-        content.append("------------\n");
-        content.append("• Strong foundation in technical skills\n");
-        content.append("• Room for improvement in AI-specific knowledge\n");
-        content.append("• Excellent communication abilities\n");
-        content.append("• Portfolio needs strengthening with AI projects\n\n");
-        
-        // Recommendations
-        if (request == null || request.isIncludeRecommendations()) {
-            content.append("RECOMMENDATIONS\n");
-            content.append("---------------\n");
-            content.append("1. Focus on AI fundamentals through online courses\n");
-            content.append("2. Build practical AI projects for your portfolio\n");
-            content.append("3. Improve data analysis and visualization skills\n");
-            content.append("4. Develop stronger communication of technical concepts\n\n");
-        }
-        
-        // Next Steps
-        content.append("NEXT STEPS\n");
-        content.append("----------\n");
-        content.append("1. Review the detailed recommendations above\n");
-        content.append("2. Create a 30-60-90 day learning plan\n");
-        content.append("3. Begin with highest impact activities\n");
-        content.append("4. Track your progress and reassess in 3 months\n\n");
-        
-        // Footer
-        content.append("Report generated by AI Readiness Assessment Platform\n");
-        content.append("For support, visit our website or contact support@aireadiness.com\n");
-        
-        // Write to file (simple text file for MVP)
-        // In production, this would generate actual PDF using iText 7
-        try (FileOutputStream fos = new FileOutputStream(fileName)) {
-            fos.write(content.toString().getBytes());
+        try (PdfDocumentWriter pdf = new PdfDocumentWriter(channel, bufferSize, title)) {
+            
+            // Header
+            pdf.title("AI READINESS ASSESSMENT REPORT");
+            
+            if (title != null) {
+                pdf.paragraph("Title: " + title);
+            }
+            
+            pdf.paragraph("Assessment ID: " + assessment.getId());
+            pdf.paragraph("Role ID: " + assessment.getRoleId());
+            pdf.paragraph("Completed: " + LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            pdf.spacer(12);
+            
+            // Executive Summary
+            pdf.heading("EXECUTIVE SUMMARY");
+            pdf.paragraph("This report provides an analysis of your AI readiness across four key pillars: " +
+                          "Technical Skills, AI Knowledge, Communication, and Portfolio.");
+            pdf.spacer(12);
+            
+            // Scores Section
+            pdf.heading("ASSESSMENT SCORES");
+            Map<String, Double> chartScores = new LinkedHashMap<>();
+            for (Map.Entry<Pillar, Double> pillarScore : scores.getPillarScores().entrySet()) {
+                pdf.paragraph(scoreLine(PILLAR_LABELS.get(pillarScore.getKey()), pillarScore.getValue()));
+                chartScores.put(pillarScore.getKey().name(), pillarScore.getValue());
+            }
+            pdf.paragraph(scoreLine("Overall Score", scores.getGlobalScore()));
+            pdf.spacer(12);
+            
+            // Charts
+            if (request == null || request.isIncludeCharts()) {
+                addChartsToReport(pdf, chartScores);
+            }
+            
+            // Key Findings
+            pdf.heading("KEY FINDINGS");
+            pdf.paragraph("• Strong foundation in technical skills");
+            pdf.paragraph("• Room for improvement in AI-specific knowledge");
+            pdf.paragraph("• Excellent communication abilities");
+            pdf.paragraph("• Portfolio needs strengthening with AI projects");
+            pdf.spacer(12);
+            
+            // Recommendations
+            if (request == null || request.isIncludeRecommendations()) {
+                pdf.heading("RECOMMENDATIONS");
+                pdf.paragraph("1. Focus on AI fundamentals through online courses");
+                pdf.paragraph("2. Build practical AI projects for your portfolio");
+                pdf.paragraph("3. Improve data analysis and visualization skills");
+                pdf.paragraph("4. Develop stronger communication of technical concepts");
+                pdf.spacer(12);
+            }
+            
+            // Next Steps
+            pdf.heading("NEXT STEPS");
+            pdf.paragraph("1. Review the detailed recommendations above");
+            pdf.paragraph("2. Create a 30-60-90 day learning plan");
+            pdf.paragraph("3. Begin with highest impact activities");
+            pdf.paragraph("4. Track your progress and reassess in 3 months");
+            pdf.spacer(12);
+            
+            // Footer
+            pdf.paragraph("Report generated by AI Readiness Assessment Platform");
+            pdf.paragraph("For support, visit our website or contact support@aireadiness.com");
         }
     }
     
+    private static String scoreLine(String label, double score) {
+        long rounded = Math.round(score);
+        String rating = rounded >= 80 ? "Excellent" : rounded >= 70 ? "Good" : rounded >= 50 ? "Fair" : "Needs improvement";
+        return label + ": " + rounded + "/100 (" + rating + ")";
+    }
+    
     /**
      * Generate chart data for inclusion in reports
      */
-    public byte[] generateScoreChart(java.util.Map<String, Double> scores) {
-        // For MVP, return empty byte array
-        // In production, this would generate actual charts using JFreeChart or similar
-        return new byte[0];
+    public ChartImage generateScoreChart(Map<String, Double> scores) {
+        return chartRenderer.barChart(scores);
     }
     
     /**
      * Add charts to PDF report
      */
-    private void addChartsToReport(String fileName, java.util.Map<String, Double> scores) {
-        // For MVP, skip chart generation
-        // In production, this would embed charts into the PDF
+    private void addChartsToReport(PdfDocumentWriter pdf, Map<String, Double> scores) throws IOException {
+        pdf.heading("SCORE CHARTS");
+        pdf.image(generateScoreChart(scores), 360f);
+        pdf.image(chartRenderer.radarChart(scores), 240f);
+        pdf.spacer(12);
     }
 }
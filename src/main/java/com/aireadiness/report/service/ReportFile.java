@@ -0,0 +1,16 @@
+package com.aireadiness.report.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A rendered report file ready to be served
+ *
+ * @param path         the PDF file
+ * @param gzipPath     pre-compressed variant, or null when none was written
+ * @param contentHash  SHA-256 of the PDF, or null for reports rendered before hashes were recorded
+ * @param lastModified the report's createdAt, which rendering resets to the completion time, or null
+ *                     to fall back to the file's mtime
+ */
+public record ReportFile(String reportId, Path path, Path gzipPath, String contentHash, Instant lastModified) {
+}
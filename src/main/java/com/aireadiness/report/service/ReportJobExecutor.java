@@ -0,0 +1,76 @@
+package com.aireadiness.report.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool for report rendering.
+ * Keeps slow PDF generation off the request threads; when every worker is busy
+ * and the queue is full, new jobs are rejected instead of piling up.
+ */
+@Component
+public class ReportJobExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+
+    public ReportJobExecutor(@Value("${app.report.jobs.workers:4}") int workers,
+                             @Value("${app.report.jobs.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "report-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queue a render job
+     *
+     * @throws ReportJobRejectedException if the job queue is full
+     */
+    public void submit(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            throw new ReportJobRejectedException(e);
+        }
+    }
+
+    public int getQueuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveJobs() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Stop accepting jobs and give running renders a chance to finish
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Report workers did not finish in time, {} jobs abandoned", executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aireadiness.report.service;
+
+/**
+ * The report job queue is full; a transient overload the client may retry after a moment
+ */
+public class ReportJobRejectedException extends RuntimeException {
+
+    public ReportJobRejectedException(Throwable cause) {
+        super("Report job queue is full", cause);
+    }
+}
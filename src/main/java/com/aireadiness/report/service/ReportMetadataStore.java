@@ -0,0 +1,181 @@
+package com.aireadiness.report.service;
+
+import com.aireadiness.report.domain.Report;
+import com.aireadiness.report.dto.ReportResponse;
+import com.aireadiness.report.dto.ReportStatus;
+import com.aireadiness.report.repository.ReportRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Report metadata backed by the report table, with a concurrent in-process cache in front.
+ *
+ * Only reports in a final state are cached when loaded from the database, so a node
+ * polling a report rendered elsewhere keeps seeing its progress. Cached entries are
+ * dropped once their expiresAt has passed.
+ */
+@Component
+public class ReportMetadataStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportMetadataStore.class);
+
+    private final ReportRepository reportRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxCachedReports;
+
+    private final Map<String, ReportResponse> cache = new ConcurrentHashMap<>();
+
+    public ReportMetadataStore(ReportRepository reportRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${app.report.metadata.cache-max-entries:1000}") int maxCachedReports) {
+        this.reportRepository = reportRepository;
+        this.objectMapper = objectMapper;
+        this.maxCachedReports = maxCachedReports;
+    }
+
+    /**
+     * Persist report metadata and refresh the cached copy
+     */
+    public void save(ReportResponse report) {
+        reportRepository.save(toEntity(report));
+        evictIfFull();
+        cache.put(report.getReportId(), report);
+    }
+
+    /**
+     * Find non-expired report metadata
+     */
+    public Optional<ReportResponse> findById(String reportId) {
+        ReportResponse cached = cache.get(reportId);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return Optional.of(cached);
+            }
+            cache.remove(reportId, cached);
+        }
+
+        Optional<ReportResponse> loaded = reportRepository.findById(reportId).map(this::toResponse);
+        loaded.filter(report -> isFinal(report.getStatus()) && !report.isExpired())
+              .ifPresent(report -> {
+                  evictIfFull();
+                  cache.put(reportId, report);
+              });
+        return loaded;
+    }
+
+    /**
+     * Reports whose expiry has passed
+     */
+    public List<ReportResponse> findExpired(LocalDateTime now) {
+        return reportRepository.findByExpiresAtBefore(now).stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * Whether a metadata row exists for the report, expired or not
+     */
+    public boolean exists(String reportId) {
+        return cache.containsKey(reportId) || reportRepository.existsById(reportId);
+    }
+    
+    /**
+     * Delete report metadata
+     */
+    public void delete(String reportId) {
+        cache.remove(reportId);
+        reportRepository.deleteById(reportId);
+    }
+
+    /**
+     * Mark reports still GENERATING since before the given time as FAILED
+     */
+    public int failStaleGenerating(LocalDateTime before, LocalDateTime expiresAt) {
+        cache.values().removeIf(report -> report.getStatus() == ReportStatus.GENERATING
+                && report.getCreatedAt().isBefore(before));
+        return reportRepository.updateStaleStatus(ReportStatus.GENERATING, before, ReportStatus.FAILED, expiresAt);
+    }
+
+    /**
+     * Drop expired entries from the cache
+     */
+    public void evictExpired() {
+        cache.values().removeIf(ReportResponse::isExpired);
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private void evictIfFull() {
+        if (cache.size() < maxCachedReports) {
+            return;
+        }
+        evictExpired();
+
+        Iterator<ReportResponse> iterator = cache.values().iterator();
+        while (cache.size() >= maxCachedReports && iterator.hasNext()) {
+            if (isFinal(iterator.next().getStatus())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean isFinal(ReportStatus status) {
+        return status == ReportStatus.COMPLETED || status == ReportStatus.FAILED || status == ReportStatus.EXPIRED;
+    }
+
+    private Report toEntity(ReportResponse response) {
+        Report report = new Report(response.getReportId(), response.getAssessmentId(), response.getStatus());
+        report.setTitle(response.getTitle());
+        report.setFilePath(response.getFilePath());
+        report.setContentHash(response.getContentHash());
+        report.setCreatedAt(response.getCreatedAt());
+        report.setExpiresAt(response.getExpiresAt());
+        if (response.getScores() != null || response.getRecommendations() != null || response.getGaps() != null) {
+            try {
+                report.setInsightsJson(objectMapper.writeValueAsString(
+                        new Insights(response.getScores(), response.getRecommendations(), response.getGaps())));
+            } catch (JsonProcessingException e) {
+                // Keep the report usable without its insights
+                logger.error("Failed to serialize insights for report: {}", response.getReportId(), e);
+            }
+        }
+        return report;
+    }
+
+    private ReportResponse toResponse(Report report) {
+        ReportResponse response = new ReportResponse(report.getId(), report.getAssessmentId(), report.getStatus());
+        response.setTitle(report.getTitle());
+        response.setFilePath(report.getFilePath());
+        response.setContentHash(report.getContentHash());
+        response.setCreatedAt(report.getCreatedAt());
+        response.setExpiresAt(report.getExpiresAt());
+        if (report.getStatus() == ReportStatus.COMPLETED) {
+            response.setDownloadUrl("/api/v1/reports/" + report.getId() + "/download");
+        }
+        if (report.getInsightsJson() != null) {
+            try {
+                Insights insights = objectMapper.readValue(report.getInsightsJson(), Insights.class);
+                response.setScores(insights.scores());
+                response.setRecommendations(insights.recommendations());
+                response.setGaps(insights.gaps());
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to parse insights for report: {}", report.getId(), e);
+            }
+        }
+        return response;
+    }
+
+    private record Insights(Map<String, Double> scores, List<String> recommendations, List<String> gaps) {
+    }
+}
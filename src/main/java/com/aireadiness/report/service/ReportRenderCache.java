@@ -0,0 +1,291 @@
+package com.aireadiness.report.service;
+
+import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
+import com.aireadiness.report.dto.ReportRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of rendered report files.
+ *
+ * Artifacts are stored under {@code <reports>/render-cache/<key>.pdf}, where the key hashes
+ * everything that determines the rendered content: assessment, role version, the score row
+ * it was rendered from and request options. Answers are immutable once submitted and only
+ * reach the report through the scores, so they are never loaded for the key. Reports get
+ * their own hard link to the artifact, so a cache hit costs a link instead of a render plus
+ * disk write, and evicting an artifact never breaks a live report. A pre-compressed
+ * {@code .gz} sibling is cached and linked the same way. Eviction is least-recently-used
+ * once the cache exceeds its byte budget.
+ */
+@Component
+public class ReportRenderCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportRenderCache.class);
+
+    private static final String EXTENSION = ".pdf";
+    private static final String GZIP_SUFFIX = ReportService.GZIP_SUFFIX;
+
+    private final Path cacheDirectory;
+    private final long maxBytes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    // Not synchronized: eviction deletes files, and a virtual thread blocked in I/O inside a monitor pins its carrier
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public ReportRenderCache(@Value("${app.report.directory:${user.dir}/reports}") String reportsDirectory,
+                             @Value("${app.report.render-cache.max-bytes:536870912}") long maxBytes) {
+        this.cacheDirectory = Paths.get(reportsDirectory, "render-cache");
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(cacheDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create render cache directory", e);
+        }
+        loadExistingArtifacts();
+    }
+
+    /**
+     * Key identifying the rendered content of a report
+     */
+    public static String renderKey(Assessment assessment, AssessmentScore scores, String title, ReportRequest request) {
+        StringBuilder canonical = new StringBuilder()
+                .append(assessment.getId()).append('\n')
+                .append(assessment.getRoleId()).append('\n')
+                .append(assessment.getVersion()).append('\n')
+                .append(assessment.getLocale()).append('\n')
+                .append(scores.getComputedAt()).append('\n')
+                .append(title).append('\n');
+        if (request == null) {
+            canonical.append("charts=true;recommendations=true;benchmarking=false;notes=null\n");
+        } else {
+            canonical.append("charts=").append(request.isIncludeCharts())
+                    .append(";recommendations=").append(request.isIncludeRecommendations())
+                    .append(";benchmarking=").append(request.isIncludeBenchmarking())
+                    .append(";notes=").append(request.getNotes()).append('\n');
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Materialize a cached artifact at the target path, with its gzip sibling when one is cached
+     *
+     * @return the hit, or null when the key is not cached
+     */
+    public Hit linkTo(String key, Path target) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            if (entry.contentHash == null) {
+                // Indexed from a previous run: hash once, every later hit reuses it
+                entry.contentHash = contentHash(entry.path);
+            }
+            // The link shares the artifact's inode, so its mtime is never touched; reports carry their own createdAt
+            link(entry.path, target);
+            entry.lastAccess = System.nanoTime();
+            return new Hit(entry.contentHash, linkGzipVariant(entry.path, target));
+        } catch (IOException e) {
+            // Artifact deleted underneath us; forget it and render again
+            logger.warn("Failed to reuse cached render {}", key, e);
+            remove(key, entry);
+            return null;
+        }
+    }
+
+    /**
+     * Add a freshly rendered report file, and its gzip sibling if already written, to the cache
+     */
+    public void store(String key, Path renderedFile, String contentHash) {
+        if (entries.containsKey(key)) {
+            return;
+        }
+        Path artifact = cacheDirectory.resolve(key + EXTENSION);
+        try {
+            link(renderedFile, artifact);
+            linkGzipVariant(renderedFile, artifact);
+            Entry entry = new Entry(artifact, sizeWithGzipVariant(artifact), contentHash);
+            if (entries.putIfAbsent(key, entry) == null) {
+                totalBytes.addAndGet(entry.size);
+                evictIfFull();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to cache render {}", key, e);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Hex SHA-256 of a file, streamed so large reports are never held in memory
+     */
+    static String contentHash(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    private void evictIfFull() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            List<Map.Entry<String, Entry>> byAge = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                    .toList();
+            for (Map.Entry<String, Entry> candidate : byAge) {
+                if (totalBytes.get() <= maxBytes) {
+                    break;
+                }
+                remove(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            totalBytes.addAndGet(-entry.size);
+            try {
+                Files.deleteIfExists(entry.path);
+                Files.deleteIfExists(gzipVariant(entry.path));
+            } catch (IOException e) {
+                logger.warn("Failed to delete cached render {}", entry.path, e);
+            }
+        }
+    }
+
+    private static Path gzipVariant(Path file) {
+        return file.resolveSibling(file.getFileName() + GZIP_SUFFIX);
+    }
+
+    private static long sizeWithGzipVariant(Path file) throws IOException {
+        Path gzipFile = gzipVariant(file);
+        return Files.size(file) + (Files.isRegularFile(gzipFile) ? Files.size(gzipFile) : 0);
+    }
+
+    /**
+     * Link the gzip sibling of a file next to the target; a missing sibling is not an error
+     *
+     * @return whether the target now has a gzip sibling
+     */
+    private static boolean linkGzipVariant(Path existing, Path target) {
+        Path gzipFile = gzipVariant(existing);
+        if (!Files.isRegularFile(gzipFile)) {
+            return false;
+        }
+        try {
+            link(gzipFile, gzipVariant(target));
+            return true;
+        } catch (IOException e) {
+            logger.debug("Failed to link gzip variant {}", gzipFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Hard link when the file system allows it, copy otherwise
+     */
+    private static void link(Path existing, Path link) throws IOException {
+        try {
+            Files.createLink(link, existing);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (UnsupportedOperationException | IOException e) {
+            // e.g. cross-device or a file system without hard links
+            Files.copy(existing, link, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Re-index artifacts left by a previous run; content hashes are computed on their first hit
+     */
+    private void loadExistingArtifacts() {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(EXTENSION)).forEach(file -> {
+                String name = file.getFileName().toString();
+                String key = name.substring(0, name.length() - EXTENSION.length());
+                try {
+                    Entry entry = new Entry(file, sizeWithGzipVariant(file), null);
+                    entry.lastAccess = System.nanoTime() - (System.currentTimeMillis()
+                            - Files.getLastModifiedTime(file).toMillis()) * 1_000_000L;
+                    entries.put(key, entry);
+                    totalBytes.addAndGet(entry.size);
+                } catch (IOException e) {
+                    logger.warn("Skipping unreadable cached render {}", file, e);
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Failed to scan render cache directory {}", cacheDirectory, e);
+        }
+        evictIfFull();
+    }
+
+    /**
+     * Result of a cache hit, with the SHA-256 of the linked file and whether its gzip sibling was linked too
+     */
+    public record Hit(String contentHash, boolean gzipLinked) {
+    }
+
+    private static final class Entry {
+        final Path path;
+        final long size;
+        volatile String contentHash;
+        volatile long lastAccess = System.nanoTime();
+
+        Entry(Path path, long size, String contentHash) {
+            this.path = path;
+            this.size = size;
+            this.contentHash = contentHash;
+        }
+    }
+}
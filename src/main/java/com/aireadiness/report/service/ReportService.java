@@ -1,23 +1,35 @@
 package com.aireadiness.report.service;
 
 import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
 import com.aireadiness.assessment.service.AssessmentService;
 import com.aireadiness.assessment.service.ScoringService;
+import com.aireadiness.common.id.TimeOrderedIdGenerator;
+import com.aireadiness.common.metrics.MetricTags;
 import com.aireadiness.report.dto.ReportRequest;
 import com.aireadiness.report.dto.ReportResponse;
 import com.aireadiness.report.dto.ReportStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Service for generating and managing assessment reports
@@ -26,25 +38,45 @@ import java.util.*;
 @Service
 public class ReportService {
     
+    private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+    
+    static final String GZIP_SUFFIX = ".gz";
+    
     private final AssessmentService assessmentService;
     private final PdfGenerationService pdfGenerationService;
     private final EmailService emailService;
+    private final ReportJobExecutor reportJobExecutor;
+    private final ReportMetadataStore reportStore;
+    private final ReportRenderCache renderCache;
+    private final boolean precompressDownloads;
+    private final MeterRegistry meterRegistry;
     
-    // In-memory storage for report metadata (for MVP - could be database in production)
-    private final Map<String, ReportResponse> reportStore = new HashMap<>();
+    // Reports still rendering on this node, by the inputs that determine their content
+    private final Map<ReportJobKey, ReportResponse> inFlightJobs = new ConcurrentHashMap<>();
     
     // Directory for storing generated reports
     private final String reportsDirectory;
     
     public ReportService(AssessmentService assessmentService,
                         PdfGenerationService pdfGenerationService,
-                        EmailService emailService) {
+                        EmailService emailService,
+                        ReportJobExecutor reportJobExecutor,
+                        ReportMetadataStore reportStore,
+                        ReportRenderCache renderCache,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.report.directory:${user.dir}/reports}") String reportsDirectory,
+                        @Value("${app.report.download.precompress:false}") boolean precompressDownloads) {
         this.assessmentService = assessmentService;
         this.pdfGenerationService = pdfGenerationService;
         this.emailService = emailService;
+        this.reportJobExecutor = reportJobExecutor;
+        this.reportStore = reportStore;
+        this.renderCache = renderCache;
+        this.meterRegistry = meterRegistry;
+        this.precompressDownloads = precompressDownloads;
         
         // Create reports directory
-        this.reportsDirectory = System.getProperty("user.dir") + "/reports";
+        this.reportsDirectory = reportsDirectory;
         try {
             Files.createDirectories(Paths.get(reportsDirectory));
         } catch (IOException e) {
@@ -53,55 +85,137 @@ public class ReportService {
     }
     
     /**
-     * Generate comprehensive assessment report
+     * Queue generation of a comprehensive assessment report
+     * Returns immediately with status GENERATING; poll {@link #getReportMetadata} for progress.
+     * An identical request for the same assessment that is still in flight returns the existing report.
      */
     public ReportResponse generateReport(String assessmentId, ReportRequest request) {
         
-        // Get assessment data
-        Assessment assessment = assessmentService.getAssessment(assessmentId);
+        // Get assessment data and its persisted scores (fails fast for unknown assessments); answers are not needed
+        Assessment assessment = assessmentService.findAssessment(assessmentId);
+        AssessmentScore scores = assessmentService.getScores(assessmentId);
+        
+        // Set report title
+        String title = (request != null && request.getTitle() != null) 
+            ? request.getTitle() 
+            : "AI Readiness Assessment Report";
         
         // Generate report ID
-        String reportId = "r_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        String reportId = TimeOrderedIdGenerator.nextId("r_");
         
         // Create initial response (status: GENERATING)
         ReportResponse response = new ReportResponse(reportId, assessmentId, ReportStatus.GENERATING);
-        reportStore.put(reportId, response);
+        response.setTitle(title);
         
+        ReportJobKey jobKey = ReportJobKey.of(assessmentId, title, request);
+        ReportResponse inFlight = inFlightJobs.putIfAbsent(jobKey, response);
+        if (inFlight != null) {
+            logger.debug("Reusing in-flight report {} for assessment {}", inFlight.getReportId(), assessmentId);
+            return inFlight;
+        }
+        
+        String renderKey = ReportRenderCache.renderKey(assessment, scores, title, request);
+        Timer.Sample requested = Timer.start(meterRegistry);
         try {
-            // Set report title
-            String title = (request != null && request.getTitle() != null) 
-                ? request.getTitle() 
-                : "AI Readiness Assessment Report";
-            
-            // Generate PDF report
-            String fileName = generatePdfReport(assessment, reportId, title, request);
+            reportStore.save(response);
+            if (renderCache.contains(renderKey)) {
+                // Already rendered: linking the cached artifact is cheap enough for the request thread
+                renderReport(jobKey, response, assessment, scores, request, renderKey, requested);
+            } else {
+                reportJobExecutor.submit(() -> renderReport(jobKey, response, assessment, scores, request, renderKey, requested));
+            }
+        } catch (RuntimeException e) {
+            inFlightJobs.remove(jobKey, response);
+            markFailed(response);
+            throw e;
+        }
+        
+        return response;
+    }
+    
+    /**
+     * Render a report (or reuse an identical cached render) and record the outcome
+     *
+     * report.render times this method; report.generate runs from the request, so it includes the job queue wait.
+     */
+    private void renderReport(ReportJobKey jobKey, ReportResponse response, Assessment assessment,
+                              AssessmentScore scores, ReportRequest request, String renderKey,
+                              Timer.Sample requested) {
+        String reportId = response.getReportId();
+        Timer.Sample rendering = Timer.start(meterRegistry);
+        ReportRenderCache.Hit hit = null;
+        String outcome = MetricTags.ERROR;
+        try {
+            String fileName = reportsDirectory + "/report_" + reportId + ".pdf";
+            Path file = Paths.get(fileName);
             
-            // Create download URL
-            String downloadUrl = "/api/v1/reports/" + reportId + "/download";
+            hit = renderCache.linkTo(renderKey, file);
+            if (hit != null) {
+                response.setContentHash(hit.contentHash());
+                if (precompressDownloads && !hit.gzipLinked()) {
+                    writeGzipVariant(file);
+                }
+            } else {
+                // Generate PDF report
+                generatePdfReport(assessment, scores, fileName, response.getTitle(), request);
+                response.setContentHash(ReportRenderCache.contentHash(file));
+                if (precompressDownloads) {
+                    writeGzipVariant(file);
+                }
+                // Cached after compressing, so later hits link the gzip sibling as well
+                renderCache.store(renderKey, file, response.getContentHash());
+            }
             
-            // Update response with completion data
-            response.setTitle(title);
-            response.setStatus(ReportStatus.COMPLETED);
-            response.setDownloadUrl(downloadUrl);
+            // Update response with completion data; status last so pollers never see a half-filled report
+            response.setDownloadUrl("/api/v1/reports/" + reportId + "/download");
             response.setFilePath(fileName);
+            // From here on createdAt is the completion time, which downloads send as Last-Modified
             response.setCreatedAt(LocalDateTime.now());
             response.setExpiresAt(LocalDateTime.now().plusDays(30));
             
-            // Add scores and insights (mock data for MVP)
-            response.setScores(generateMockScores());
+            // Add scores and insights (recommendations are still mock data for MVP)
+            response.setScores(toScoreMap(scores));
             response.setRecommendations(generateMockRecommendations());
-            response.setGaps(generateMockGaps());
-            
-            // Update stored response
-            reportStore.put(reportId, response);
-            
-            return response;
+            response.setGaps(scores.getGaps());
             
+            // New identical requests are served by the render cache from here on
+            inFlightJobs.remove(jobKey, response);
+            response.setStatus(ReportStatus.COMPLETED);
+            reportStore.save(response);
+            outcome = MetricTags.SUCCESS;
+        } catch (Exception e) {
+            logger.error("Failed to generate report {} for assessment {}", reportId, assessment.getId(), e);
+            markFailed(response);
+        } finally {
+            inFlightJobs.remove(jobKey, response);
+            String cache = hit != null ? "hit" : "miss";
+            rendering.stop(reportTimer("report.render", "Time to render or link one report PDF",
+                    assessment, cache, outcome));
+            requested.stop(reportTimer("report.generate", "Time from report request until the report is ready",
+                    assessment, cache, outcome));
+        }
+    }
+    
+    private Timer reportTimer(String name, String description, Assessment assessment, String cache, String outcome) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("role", MetricTags.role(assessment.getRoleId()))
+                .tag("locale", MetricTags.locale(assessment.getLocale()))
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Record a failed report; failures are kept for a day so pollers can see them
+     */
+    private void markFailed(ReportResponse response) {
+        response.setExpiresAt(LocalDateTime.now().plusDays(1));
+        response.setStatus(ReportStatus.FAILED);
+        try {
+            reportStore.save(response);
         } catch (Exception e) {
-            // Update status to FAILED
-            response.setStatus(ReportStatus.FAILED);
-            reportStore.put(reportId, response);
-            throw new RuntimeException("Failed to generate report", e);
+            logger.error("Failed to record failure of report {}", response.getReportId(), e);
         }
     }
     
@@ -109,11 +223,15 @@ public class ReportService {
      * Download generated PDF report
      */
     public Resource downloadReport(String reportId) throws FileNotFoundException {
-        ReportResponse report = reportStore.get(reportId);
-        
-        if (report == null) {
-            throw new IllegalArgumentException("Report not found: " + reportId);
-        }
+        return new FileSystemResource(getReportFile(reportId).path());
+    }
+    
+    /**
+     * Locate the rendered file of a report, with its content hash and pre-compressed variant
+     */
+    public ReportFile getReportFile(String reportId) throws FileNotFoundException {
+        ReportResponse report = reportStore.findById(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
         
         if (report.isExpired()) {
             throw new IllegalArgumentException("Report has expired: " + reportId);
@@ -123,25 +241,26 @@ public class ReportService {
             throw new IllegalArgumentException("Report file not available: " + reportId);
         }
         
-        File file = new File(report.getFilePath());
-        if (!file.exists()) {
+        Path file = Paths.get(report.getFilePath());
+        if (!Files.isRegularFile(file)) {
             throw new FileNotFoundException("Report file not found: " + report.getFilePath());
         }
         
-        return new FileSystemResource(file);
+        Path gzipFile = Paths.get(report.getFilePath() + GZIP_SUFFIX);
+        // Cached renders are hard links sharing one mtime, so freshness comes from the report itself:
+        // a report only has a file path once rendering has reset createdAt to its completion time
+        Instant lastModified = report.getCreatedAt() == null ? null
+                : report.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        return new ReportFile(reportId, file, Files.isRegularFile(gzipFile) ? gzipFile : null,
+                report.getContentHash(), lastModified);
     }
     
     /**
      * Get report metadata
      */
     public ReportResponse getReportMetadata(String reportId) {
-        ReportResponse report = reportStore.get(reportId);
-        
-        if (report == null) {
-            throw new IllegalArgumentException("Report not found: " + reportId);
-        }
-        
-        return report;
+        return reportStore.findById(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found: " + reportId));
     }
     
     /**
@@ -166,14 +285,15 @@ public class ReportService {
      * Get assessment summary for dashboard
      */
     public Map<String, Object> getAssessmentSummary(String assessmentId) {
-        Assessment assessment = assessmentService.getAssessment(assessmentId);
+        Assessment assessment = assessmentService.findAssessment(assessmentId);
+        AssessmentScore scores = assessmentService.getScores(assessmentId);
         
         Map<String, Object> summary = new HashMap<>();
         summary.put("assessmentId", assessmentId);
         summary.put("completedAt", assessment.getCreatedAt());
-        summary.put("answerCount", assessment.getAnswers().size());
-        summary.put("scores", generateMockScores());
-        summary.put("topGaps", generateMockGaps().subList(0, Math.min(3, generateMockGaps().size())));
+        summary.put("answerCount", scores.getAnswerCount());
+        summary.put("scores", toScoreMap(scores));
+        summary.put("topGaps", scores.getGaps().subList(0, Math.min(3, scores.getGaps().size())));
         summary.put("topRecommendations", generateMockRecommendations().subList(0, Math.min(3, generateMockRecommendations().size())));
         
         return summary;
@@ -182,30 +302,34 @@ public class ReportService {
     /**
      * Generate PDF report file
      */
-    private String generatePdfReport(Assessment assessment, String reportId, String title, ReportRequest request) {
+    private void generatePdfReport(Assessment assessment, AssessmentScore scores, String fileName,
+                                   String title, ReportRequest request) {
         try {
-            String fileName = reportsDirectory + "/report_" + reportId + ".pdf";
-            
             // Use PDF generation service
-            pdfGenerationService.generateAssessmentReport(assessment, fileName, title, request);
-            
-            return fileName;
+            pdfGenerationService.generateAssessmentReport(assessment, scores, fileName, title, request);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate PDF report", e);
         }
     }
     
     /**
-     * Generate mock scores for MVP (replace with real calculation)
+     * Write a gzip sibling next to the report so downloads can skip on-the-fly compression
+     */
+    private static void writeGzipVariant(Path file) throws IOException {
+        Path gzipFile = Paths.get(file + GZIP_SUFFIX);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+            Files.copy(file, out);
+        }
+    }
+    
+    /**
+     * Pillar scores plus OVERALL, rounded to two decimals, as the dashboard expects them
      */
-    private Map<String, Double> generateMockScores() {
-        Map<String, Double> scores = new HashMap<>();
-        scores.put("TECH", 75.0);
-        scores.put("AI", 65.0);
-        scores.put("COMMUNICATION", 80.0);
-        scores.put("PORTFOLIO", 60.0);
-        scores.put("OVERALL", 70.0);
-        return scores;
+    private static Map<String, Double> toScoreMap(AssessmentScore scores) {
+        Map<String, Double> result = new HashMap<>();
+        scores.getPillarScores().forEach((pillar, score) -> result.put(pillar.name(), Math.round(score * 100.0) / 100.0));
+        result.put("OVERALL", Math.round(scores.getGlobalScore() * 100.0) / 100.0);
+        return result;
     }
     
     /**
@@ -221,14 +345,17 @@ public class ReportService {
     }
     
     /**
-     * Generate mock gaps for MVP
+     * Everything that determines the rendered content of a report
      */
-    private List<String> generateMockGaps() {
-        return Arrays.asList(
-            "Limited experience with machine learning frameworks",
-            "Need stronger foundation in statistics and data science", 
-            "Lack of practical AI project experience",
-            "Could improve technical presentation skills"
-        );
+    private record ReportJobKey(String assessmentId, String title, boolean includeCharts,
+                                boolean includeRecommendations, boolean includeBenchmarking, String notes) {
+        
+        static ReportJobKey of(String assessmentId, String title, ReportRequest request) {
+            if (request == null) {
+                return new ReportJobKey(assessmentId, title, true, true, false, null);
+            }
+            return new ReportJobKey(assessmentId, title, request.isIncludeCharts(),
+                    request.isIncludeRecommendations(), request.isIncludeBenchmarking(), request.getNotes());
+        }
     }
 }
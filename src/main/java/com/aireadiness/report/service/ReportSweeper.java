@@ -0,0 +1,110 @@
+package com.aireadiness.report.service;
+
+import com.aireadiness.report.dto.ReportResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Periodically removes expired reports: their metadata rows, cached entries and files.
+ * Also fails reports left GENERATING by a node that died mid-render and deletes
+ * report files no metadata points to anymore.
+ */
+@Component
+public class ReportSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportSweeper.class);
+
+    // report_<id>.pdf and its pre-compressed sibling, as written by ReportService
+    private static final Pattern REPORT_FILE = Pattern.compile("report_(.+)\\.pdf(\\.gz)?");
+
+    private final ReportMetadataStore reportStore;
+    private final Path reportsDirectory;
+    private final Duration staleGeneratingAfter;
+    private final Duration orphanFileMaxAge;
+
+    public ReportSweeper(ReportMetadataStore reportStore,
+                         @Value("${app.report.directory:${user.dir}/reports}") String reportsDirectory,
+                         @Value("${app.report.sweeper.stale-generating-minutes:30}") long staleGeneratingMinutes,
+                         @Value("${app.report.sweeper.orphan-file-max-age-days:31}") long orphanFileMaxAgeDays) {
+        this.reportStore = reportStore;
+        this.reportsDirectory = Paths.get(reportsDirectory);
+        this.staleGeneratingAfter = Duration.ofMinutes(staleGeneratingMinutes);
+        this.orphanFileMaxAge = Duration.ofDays(orphanFileMaxAgeDays);
+    }
+
+    @Scheduled(fixedDelayString = "${app.report.sweeper.interval-ms:3600000}",
+               initialDelayString = "${app.report.sweeper.initial-delay-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int stale = reportStore.failStaleGenerating(now.minus(staleGeneratingAfter), now.plusDays(1));
+        if (stale > 0) {
+            logger.warn("Marked {} stale GENERATING reports as FAILED", stale);
+        }
+
+        int expired = 0;
+        for (ReportResponse report : reportStore.findExpired(now)) {
+            deleteFile(report.getFilePath());
+            reportStore.delete(report.getReportId());
+            expired++;
+        }
+        reportStore.evictExpired();
+
+        int orphans = deleteOrphanFiles();
+        logger.info("Report sweep removed {} expired reports and {} orphan files", expired, orphans);
+    }
+
+    private void deleteFile(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+            Files.deleteIfExists(Paths.get(filePath + ReportService.GZIP_SUFFIX));
+        } catch (IOException e) {
+            logger.warn("Failed to delete report file: {}", filePath, e);
+        }
+    }
+
+    /**
+     * Delete report files whose report has no metadata row anymore (e.g. removed by hand or lost
+     * with a failed node). Files younger than the max age are kept, since a render may still be
+     * writing them, and anything not named like a report file is never touched.
+     */
+    private int deleteOrphanFiles() {
+        if (!Files.isDirectory(reportsDirectory)) {
+            return 0;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(orphanFileMaxAge));
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(reportsDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher name = REPORT_FILE.matcher(file.getFileName().toString());
+                if (name.matches() && Files.isRegularFile(file)
+                        && Files.getLastModifiedTime(file).compareTo(cutoff) < 0
+                        && !reportStore.exists(name.group(1))) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to scan reports directory: {}", reportsDirectory, e);
+        }
+        return deleted;
+    }
+}
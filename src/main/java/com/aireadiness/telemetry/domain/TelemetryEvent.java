@@ -0,0 +1,18 @@
+package com.aireadiness.telemetry.domain;
+
+import com.aireadiness.telemetry.domain.Telemetry.EventType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Telemetry event waiting in the ingestion pipeline.
+ * Event data stays unserialized until the background flusher writes the batch.
+ */
+public record TelemetryEvent(
+    String assessmentId,
+    EventType eventType,
+    Map<String, Object> data,
+    LocalDateTime createdAt
+) {
+}
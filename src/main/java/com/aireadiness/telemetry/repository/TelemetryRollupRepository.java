@@ -0,0 +1,114 @@
+package com.aireadiness.telemetry.repository;
+
+import com.aireadiness.telemetry.domain.Telemetry.EventType;
+import com.aireadiness.telemetry.domain.TelemetryEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the telemetry_rollup table (per-minute and per-hour event counts)
+ */
+@Repository
+public class TelemetryRollupRepository {
+
+    public static final String MINUTE = "MINUTE";
+    public static final String HOUR = "HOUR";
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO telemetry_rollup (granularity, event_type, bucket_start, event_count) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (granularity, event_type, bucket_start) " +
+        "DO UPDATE SET event_count = telemetry_rollup.event_count + EXCLUDED.event_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TelemetryRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add the events of a telemetry batch to their minute and hour buckets
+     */
+    public void incrementBuckets(List<TelemetryEvent> events) {
+        Map<BucketKey, Long> increments = new HashMap<>();
+        for (TelemetryEvent event : events) {
+            LocalDateTime minute = event.createdAt().truncatedTo(ChronoUnit.MINUTES);
+            LocalDateTime hour = event.createdAt().truncatedTo(ChronoUnit.HOURS);
+            increments.merge(new BucketKey(MINUTE, event.eventType(), minute), 1L, Long::sum);
+            increments.merge(new BucketKey(HOUR, event.eventType(), hour), 1L, Long::sum);
+        }
+
+        List<Map.Entry<BucketKey, Long>> rows = new ArrayList<>(increments.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().granularity());
+            ps.setString(2, row.getKey().eventType().name());
+            ps.setTimestamp(3, Timestamp.valueOf(row.getKey().bucketStart()));
+            ps.setLong(4, row.getValue());
+        });
+    }
+
+    /**
+     * Sum minute buckets in [from, to) per event type
+     */
+    public Map<EventType, Long> sumMinuteBuckets(LocalDateTime from, LocalDateTime to) {
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        jdbcTemplate.query(
+            "SELECT event_type, SUM(event_count) FROM telemetry_rollup " +
+            "WHERE granularity = 'MINUTE' AND bucket_start >= ? AND bucket_start < ? GROUP BY event_type",
+            rs -> {
+                counts.merge(EventType.valueOf(rs.getString(1)), rs.getLong(2), Long::sum);
+            },
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return counts;
+    }
+
+    /**
+     * Hour buckets in [from, to), keyed by bucket start
+     */
+    public Map<LocalDateTime, Map<EventType, Long>> findHourBuckets(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, Map<EventType, Long>> buckets = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT bucket_start, event_type, event_count FROM telemetry_rollup " +
+            "WHERE granularity = 'HOUR' AND bucket_start >= ? AND bucket_start < ?",
+            rs -> {
+                buckets.computeIfAbsent(rs.getTimestamp(1).toLocalDateTime(), hour -> new EnumMap<>(EventType.class))
+                        .put(EventType.valueOf(rs.getString(2)), rs.getLong(3));
+            },
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return buckets;
+    }
+
+    /**
+     * Exact count of raw telemetry rows with after < created_at < before, per event type
+     */
+    public Map<EventType, Long> countRawBetween(LocalDateTime after, LocalDateTime before) {
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        jdbcTemplate.query(
+            "SELECT event_type, COUNT(*) FROM telemetry WHERE created_at > ? AND created_at < ? GROUP BY event_type",
+            rs -> {
+                counts.merge(EventType.valueOf(rs.getString(1)), rs.getLong(2), Long::sum);
+            },
+            Timestamp.valueOf(after), Timestamp.valueOf(before));
+        return counts;
+    }
+
+    /**
+     * Delete minute buckets older than the given instant (hour buckets are kept)
+     */
+    public int deleteMinuteBucketsBefore(LocalDateTime before) {
+        return jdbcTemplate.update(
+            "DELETE FROM telemetry_rollup WHERE granularity = 'MINUTE' AND bucket_start < ?",
+            Timestamp.valueOf(before));
+    }
+
+    private record BucketKey(String granularity, EventType eventType, LocalDateTime bucketStart) {
+    }
+}
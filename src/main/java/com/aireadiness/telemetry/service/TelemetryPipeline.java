@@ -0,0 +1,214 @@
+package com.aireadiness.telemetry.service;
+
+import com.aireadiness.common.concurrent.BoundedRingBuffer;
+import com.aireadiness.telemetry.domain.TelemetryEvent;
+import com.aireadiness.telemetry.repository.TelemetryBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous telemetry ingestion.
+ * Request threads enqueue events into a lock-free bounded ring buffer; a single
+ * background flusher drains it and writes JDBC batches when either
+ * {@code batch-size} events are pending or the oldest pending event has waited
+ * {@code flush-interval-ms}.
+ *
+ * When the buffer is full the configured {@link DropPolicy} applies. Queue depth,
+ * drops and flush latency are published as Micrometer meters.
+ */
+@Component
+public class TelemetryPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryPipeline.class);
+
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * What to do with an event when the buffer is full
+     */
+    public enum DropPolicy {
+        DROP_NEWEST,  // reject the incoming event
+        DROP_OLDEST,  // evict the oldest buffered event to make room
+        BLOCK         // wait up to offer-timeout-ms for room, then reject
+    }
+
+    private final BoundedRingBuffer<TelemetryEvent> buffer;
+    private final TelemetryBatchWriter batchWriter;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final DropPolicy dropPolicy;
+
+    private final Counter droppedCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread flusherThread;
+
+    public TelemetryPipeline(TelemetryBatchWriter batchWriter,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.telemetry.pipeline.capacity:8192}") int capacity,
+                             @Value("${app.telemetry.pipeline.batch-size:200}") int batchSize,
+                             @Value("${app.telemetry.pipeline.flush-interval-ms:500}") long flushIntervalMs,
+                             @Value("${app.telemetry.pipeline.offer-timeout-ms:5}") long offerTimeoutMs,
+                             @Value("${app.telemetry.pipeline.drop-policy:DROP_NEWEST}") DropPolicy dropPolicy) {
+        this.buffer = new BoundedRingBuffer<>(capacity);
+        this.batchWriter = batchWriter;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        this.dropPolicy = dropPolicy;
+
+        Gauge.builder("telemetry.pipeline.queue.depth", buffer, BoundedRingBuffer::size)
+                .description("Telemetry events waiting to be flushed")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("telemetry.pipeline.dropped")
+                .description("Telemetry events dropped because the buffer was full")
+                .tag("policy", dropPolicy.name())
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("telemetry.pipeline.flush.failures")
+                .description("Telemetry batches that failed to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("telemetry.pipeline.flush.latency")
+                .description("Time to write one telemetry batch")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "telemetry-flusher");
+        thread.setDaemon(true);
+        flusherThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stop the flusher after writing everything still buffered
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = flusherThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Enqueue an event without touching the database.
+     *
+     * @return false if the event was dropped
+     */
+    public boolean enqueue(TelemetryEvent event) {
+        boolean accepted = buffer.offer(event);
+
+        if (!accepted) {
+            switch (dropPolicy) {
+                case DROP_OLDEST:
+                    while (!accepted) {
+                        if (buffer.poll() != null) {
+                            droppedCounter.increment();
+                        }
+                        accepted = buffer.offer(event);
+                    }
+                    break;
+                case BLOCK:
+                    long deadline = System.nanoTime() + offerTimeoutNanos;
+                    while (!accepted && System.nanoTime() < deadline) {
+                        LockSupport.unpark(flusherThread);
+                        LockSupport.parkNanos(this, BACKPRESSURE_PARK_NANOS);
+                        accepted = buffer.offer(event);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (!accepted) {
+            droppedCounter.increment();
+            logger.debug("Telemetry buffer full, dropped event: {}", event.eventType());
+            return false;
+        }
+
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(flusherThread);
+        }
+        return true;
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    public double getDroppedCount() {
+        return droppedCounter.count();
+    }
+
+    private void runFlusher() {
+        List<TelemetryEvent> batch = new ArrayList<>(batchSize);
+        long oldestPendingAt = 0;
+
+        while (running || !buffer.isEmpty()) {
+            TelemetryEvent event = buffer.poll();
+            if (event != null) {
+                if (batch.isEmpty()) {
+                    oldestPendingAt = System.nanoTime();
+                }
+                batch.add(event);
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+                continue;
+            }
+
+            if (!batch.isEmpty()) {
+                long waited = System.nanoTime() - oldestPendingAt;
+                if (waited >= flushIntervalNanos || !running) {
+                    flush(batch);
+                    continue;
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos - waited);
+            } else if (running) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<TelemetryEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            batchWriter.writeBatch(batch);
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            logger.error("Failed to write telemetry batch of {} events", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batch.clear();
+        }
+    }
+}
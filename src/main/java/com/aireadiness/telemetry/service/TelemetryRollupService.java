@@ -0,0 +1,129 @@
+package com.aireadiness.telemetry.service;
+
+import com.aireadiness.telemetry.domain.Telemetry.EventType;
+import com.aireadiness.telemetry.repository.TelemetryRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "how many events of each type since T" from pre-aggregated buckets
+ * instead of COUNT(*) scans over the telemetry table.
+ *
+ * The window (since, now] is split into:
+ * - an exact tail (since, next minute) counted from raw rows,
+ * - minute buckets up to the first whole hour and for the still-open recent hours,
+ * - closed hour buckets, kept in memory once read since they no longer change.
+ */
+@Service
+public class TelemetryRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryRollupService.class);
+
+    private final TelemetryRollupRepository rollupRepository;
+    private final Duration closeGrace;
+    private final Duration minuteRetention;
+
+    // Totals of closed hours per event type; immutable once the hour is past the grace period
+    private final Map<LocalDateTime, Map<EventType, Long>> closedHours = new ConcurrentHashMap<>();
+
+    public TelemetryRollupService(TelemetryRollupRepository rollupRepository,
+                                  @Value("${app.telemetry.rollup.close-grace-seconds:120}") long closeGraceSeconds,
+                                  @Value("${app.telemetry.rollup.minute-retention-days:7}") long minuteRetentionDays) {
+        this.rollupRepository = rollupRepository;
+        this.closeGrace = Duration.ofSeconds(closeGraceSeconds);
+        this.minuteRetention = Duration.ofDays(minuteRetentionDays);
+    }
+
+    /**
+     * Count events per type with created_at after {@code since}
+     */
+    public Map<EventType, Long> countSince(LocalDateTime since, LocalDateTime now) {
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+
+        LocalDateTime tailEnd = ceil(since, ChronoUnit.MINUTES);
+        LocalDateTime firstHour = ceil(tailEnd, ChronoUnit.HOURS);
+        LocalDateTime closedHoursEnd = now.minus(closeGrace).truncatedTo(ChronoUnit.HOURS);
+
+        // Exact tail for the partial leading minute
+        if (tailEnd.isAfter(since)) {
+            addAll(counts, rollupRepository.countRawBetween(since, tailEnd));
+        }
+
+        if (!firstHour.isBefore(closedHoursEnd)) {
+            // No closed hour in the window: minute buckets only
+            addAll(counts, rollupRepository.sumMinuteBuckets(tailEnd, now.plusMinutes(1)));
+            return counts;
+        }
+
+        // Leading partial hour, from raw rows if minute buckets were already pruned
+        if (tailEnd.isBefore(now.minus(minuteRetention))) {
+            counts.clear();
+            addAll(counts, rollupRepository.countRawBetween(since, firstHour));
+        } else if (tailEnd.isBefore(firstHour)) {
+            addAll(counts, rollupRepository.sumMinuteBuckets(tailEnd, firstHour));
+        }
+
+        // Closed hours
+        for (Map<EventType, Long> hour : getClosedHours(firstHour, closedHoursEnd).values()) {
+            addAll(counts, hour);
+        }
+
+        // Open hours
+        addAll(counts, rollupRepository.sumMinuteBuckets(closedHoursEnd, now.plusMinutes(1)));
+        return counts;
+    }
+
+    /**
+     * Drop minute buckets beyond retention and forget cached hours beyond it
+     */
+    @Scheduled(cron = "${app.telemetry.rollup.prune-cron:0 17 * * * *}")
+    public void pruneMinuteBuckets() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minuteRetention);
+        int deleted = rollupRepository.deleteMinuteBucketsBefore(cutoff);
+        closedHours.keySet().removeIf(hour -> hour.isBefore(cutoff));
+        logger.debug("Pruned {} telemetry minute buckets older than {}", deleted, cutoff);
+    }
+
+    private Map<LocalDateTime, Map<EventType, Long>> getClosedHours(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime firstMissing = null;
+        for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1)) {
+            if (!closedHours.containsKey(hour)) {
+                firstMissing = hour;
+                break;
+            }
+        }
+
+        if (firstMissing != null) {
+            Map<LocalDateTime, Map<EventType, Long>> loaded = rollupRepository.findHourBuckets(firstMissing, to);
+            for (LocalDateTime hour = firstMissing; hour.isBefore(to); hour = hour.plusHours(1)) {
+                closedHours.put(hour, loaded.getOrDefault(hour, Map.of()));
+            }
+        }
+
+        Map<LocalDateTime, Map<EventType, Long>> result = new HashMap<>();
+        for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1)) {
+            result.put(hour, closedHours.getOrDefault(hour, Map.of()));
+        }
+        return result;
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, ChronoUnit unit) {
+        LocalDateTime floor = time.truncatedTo(unit);
+        return floor.equals(time) ? time : floor.plus(1, unit);
+    }
+
+    private static void addAll(Map<EventType, Long> target, Map<EventType, Long> source) {
+        source.forEach((type, count) -> target.merge(type, count, Long::sum));
+    }
+}
@@ -1,10 +1,7 @@
 package com.aireadiness.telemetry.service;
 
-import com.aireadiness.telemetry.domain.Telemetry;
 import com.aireadiness.telemetry.domain.Telemetry.EventType;
-import com.aireadiness.telemetry.repository.TelemetryRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aireadiness.telemetry.domain.TelemetryEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -24,12 +21,12 @@ public class TelemetryService {
     
     private static final Logger logger = LoggerFactory.getLogger(TelemetryService.class);
     
-    private final TelemetryRepository telemetryRepository;
-    private final ObjectMapper objectMapper;
+    private final TelemetryPipeline telemetryPipeline;
+    private final TelemetryRollupService rollupService;
     
-    public TelemetryService(TelemetryRepository telemetryRepository, ObjectMapper objectMapper) {
-        this.telemetryRepository = telemetryRepository;
-        this.objectMapper = objectMapper;
+    public TelemetryService(TelemetryPipeline telemetryPipeline, TelemetryRollupService rollupService) {
+        this.telemetryPipeline = telemetryPipeline;
+        this.rollupService = rollupService;
     }
     
     /**
@@ -101,16 +98,14 @@ public class TelemetryService {
     
     /**
      * Get basic metrics for monitoring
+     * Counts come from the rollup buckets, so the cost does not grow with the telemetry table
      */
     public TelemetryMetrics getMetrics(LocalDateTime since) {
-        long assessmentsStarted = telemetryRepository.countByEventTypeAndCreatedAtAfter(
-            EventType.ASSESSMENT_STARTED, since);
+        Map<EventType, Long> counts = rollupService.countSince(since, LocalDateTime.now());
         
-        long assessmentsCompleted = telemetryRepository.countByEventTypeAndCreatedAtAfter(
-            EventType.ASSESSMENT_COMPLETED, since);
-        
-        long pdfDownloads = telemetryRepository.countByEventTypeAndCreatedAtAfter(
-            EventType.PDF_DOWNLOADED, since);
+        long assessmentsStarted = counts.getOrDefault(EventType.ASSESSMENT_STARTED, 0L);
+        long assessmentsCompleted = counts.getOrDefault(EventType.ASSESSMENT_COMPLETED, 0L);
+        long pdfDownloads = counts.getOrDefault(EventType.PDF_DOWNLOADED, 0L);
         
         double completionRate = assessmentsStarted > 0 ? 
             (double) assessmentsCompleted / assessmentsStarted * 100 : 0.0;
@@ -129,19 +124,14 @@ public class TelemetryService {
     
     /**
      * Generic method to track any event
+     * Events are handed to the asynchronous pipeline and written in batches,
+     * outside the caller's transaction
      */
     private void trackEvent(String assessmentId, EventType eventType, Map<String, Object> data) {
         try {
-            String eventData = data != null ? objectMapper.writeValueAsString(data) : null;
-            Telemetry telemetry = new Telemetry(assessmentId, eventType, eventData);
-            telemetryRepository.save(telemetry);
-        } catch (JsonProcessingException e) {
-            logger.error("Failed to serialize telemetry data for event: {}", eventType, e);
-            // Save event without data to avoid losing the metric
-            Telemetry telemetry = new Telemetry(assessmentId, eventType, null);
-            telemetryRepository.save(telemetry);
+            telemetryPipeline.enqueue(new TelemetryEvent(assessmentId, eventType, data, LocalDateTime.now()));
         } catch (Exception e) {
-            logger.error("Failed to save telemetry event: {}", eventType, e);
+            logger.error("Failed to enqueue telemetry event: {}", eventType, e);
         }
     }
     
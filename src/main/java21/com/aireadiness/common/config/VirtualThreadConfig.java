@@ -0,0 +1,42 @@
+package com.aireadiness.common.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs Tomcat requests and Spring's application task executor (@Async, async MVC) on virtual threads.
+ * Only compiled by the java21 Maven profile and only active with app.threads.virtual.enabled=true.
+ *
+ * Request concurrency is then bounded by server.tomcat.max-connections and the JDBC pool rather
+ * than server.tomcat.threads.max; a request waiting for a connection parks instead of holding a thread.
+ * CPU-bound pools (password hashing, report rendering) stay on bounded platform threads on purpose.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Handling HTTP requests on virtual threads");
+        ThreadFactory factory = Thread.ofVirtual().name("http-virtual-", 0).factory();
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newThreadPerTaskExecutor(factory));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        ThreadFactory factory = Thread.ofVirtual().name("task-virtual-", 0).factory();
+        return new TaskExecutorAdapter(Executors.newThreadPerTaskExecutor(factory));
+    }
+}
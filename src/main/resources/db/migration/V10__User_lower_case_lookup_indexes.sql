@@ -0,0 +1,4 @@
+-- Expression indexes for case-insensitive username/email lookups.
+-- The plain indexes from V5 cannot serve LOWER(column) = LOWER(?) predicates.
+CREATE INDEX IF NOT EXISTS idx_users_username_lower ON users (LOWER(username));
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (LOWER(email));
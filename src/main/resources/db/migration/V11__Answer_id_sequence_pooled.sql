@@ -0,0 +1,3 @@
+-- Hand out answer ids in blocks of 50 so Hibernate can assign them without a round trip
+-- per row (pooled optimizer) and batch the inserts. Must match allocationSize on Answer.id.
+ALTER SEQUENCE answer_id_seq INCREMENT BY 50;
@@ -0,0 +1,13 @@
+-- Scores computed once at submission; plan, report and summary read this row
+-- instead of reloading every answer and re-scoring.
+CREATE TABLE assessment_score (
+    assessment_id VARCHAR(100) PRIMARY KEY REFERENCES assessment(id),
+    tech_score DOUBLE PRECISION,
+    ai_score DOUBLE PRECISION,
+    communication_score DOUBLE PRECISION,
+    portfolio_score DOUBLE PRECISION,
+    global_score DOUBLE PRECISION NOT NULL,
+    gaps JSONB NOT NULL,
+    answer_count INTEGER NOT NULL,
+    computed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
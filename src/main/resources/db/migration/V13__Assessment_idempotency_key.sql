@@ -0,0 +1,11 @@
+-- Idempotency-Key of each submission, written in the same transaction as the assessment.
+-- The foreign key is deferred so the key can be claimed (and a concurrent duplicate on another
+-- node rejected) before the assessment and its answers are inserted.
+CREATE TABLE assessment_idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    assessment_id VARCHAR(100) NOT NULL REFERENCES assessment(id) DEFERRABLE INITIALLY DEFERRED,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_assessment_idempotency_key_created_at ON assessment_idempotency_key(created_at);
@@ -0,0 +1,26 @@
+-- Pre-aggregated telemetry counters for the metrics endpoint
+-- Per-minute and per-hour event counts, maintained together with telemetry batch inserts
+
+CREATE TABLE telemetry_rollup (
+    granularity VARCHAR(10) NOT NULL CHECK (granularity IN ('MINUTE', 'HOUR')),
+    event_type VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (granularity, event_type, bucket_start)
+);
+
+CREATE INDEX idx_telemetry_rollup_bucket ON telemetry_rollup(granularity, bucket_start);
+
+-- Exact-tail counts for the partial leading minute
+CREATE INDEX idx_telemetry_event_type_created_at ON telemetry(event_type, created_at);
+
+-- Backfill from existing telemetry rows
+INSERT INTO telemetry_rollup (granularity, event_type, bucket_start, event_count)
+SELECT 'MINUTE', event_type, date_trunc('minute', created_at), COUNT(*)
+FROM telemetry
+GROUP BY event_type, date_trunc('minute', created_at);
+
+INSERT INTO telemetry_rollup (granularity, event_type, bucket_start, event_count)
+SELECT 'HOUR', event_type, date_trunc('hour', created_at), COUNT(*)
+FROM telemetry
+GROUP BY event_type, date_trunc('hour', created_at);
@@ -0,0 +1,17 @@
+-- Report metadata, shared by all application nodes
+-- Rendered files live in the reports directory; rows are swept once expires_at has passed
+
+CREATE TABLE report (
+    id VARCHAR(100) PRIMARY KEY,
+    assessment_id VARCHAR(100) NOT NULL REFERENCES assessment(id),
+    title VARCHAR(255),
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'GENERATING', 'COMPLETED', 'FAILED', 'EXPIRED')),
+    file_path VARCHAR(500),
+    insights_json JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP
+);
+
+CREATE INDEX idx_report_assessment_id ON report(assessment_id);
+CREATE INDEX idx_report_expires_at ON report(expires_at);
+CREATE INDEX idx_report_status_created_at ON report(status, created_at);
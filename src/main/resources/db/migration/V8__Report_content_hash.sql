@@ -0,0 +1,2 @@
+-- SHA-256 of the rendered report file, used as the strong ETag for downloads
+ALTER TABLE report ADD COLUMN content_hash VARCHAR(64);
@@ -0,0 +1,2 @@
+-- Per-user token version; bumping it revokes every access token issued before
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -4,6 +4,10 @@ import com.aireadiness.admin.controller.AdminController;
 import com.aireadiness.admin.dto.CreateQuestionRequest;
 import com.aireadiness.admin.dto.CreateRoleRequest;
 import com.aireadiness.admin.service.AdminService;
+import com.aireadiness.auth.service.AuthRateLimiter;
+import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
 import com.aireadiness.catalog.domain.Question;
 import com.aireadiness.catalog.domain.Role;
 import com.aireadiness.common.domain.Pillar;
@@ -28,7 +32,11 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(AdminController.class)
+@MockBean({JwtService.class, CustomUserDetailsService.class, TokenVersionService.class, AuthRateLimiter.class})
+@WebMvcTest(controllers = AdminController.class,
+            excludeAutoConfiguration = {
+                org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+            })
 class AdminControllerTest {
 
     @Autowired
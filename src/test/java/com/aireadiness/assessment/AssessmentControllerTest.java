@@ -4,7 +4,12 @@ import com.aireadiness.assessment.controller.AssessmentController;
 import com.aireadiness.assessment.dto.AssessmentResponse;
 import com.aireadiness.assessment.dto.CreateAssessmentRequest;
 import com.aireadiness.assessment.dto.AnswerDto;
+import com.aireadiness.assessment.service.AssessmentIdempotencyService;
 import com.aireadiness.assessment.service.AssessmentService;
+import com.aireadiness.auth.service.AuthRateLimiter;
+import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 /**
  * Tests for AssessmentController
  */
+@MockBean({JwtService.class, CustomUserDetailsService.class, TokenVersionService.class, AuthRateLimiter.class})
 @WebMvcTest(controllers = AssessmentController.class, 
             excludeAutoConfiguration = {
                 org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
@@ -39,6 +45,9 @@ class AssessmentControllerTest {
     @MockBean
     private AssessmentService assessmentService;
     
+    @MockBean
+    private AssessmentIdempotencyService idempotencyService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -0,0 +1,156 @@
+package com.aireadiness.assessment;
+
+import com.aireadiness.assessment.domain.AssessmentIdempotencyKey;
+import com.aireadiness.assessment.dto.AnswerDto;
+import com.aireadiness.assessment.dto.AssessmentResponse;
+import com.aireadiness.assessment.dto.CreateAssessmentRequest;
+import com.aireadiness.assessment.service.AssessmentIdempotencyService;
+import com.aireadiness.assessment.service.AssessmentService;
+import com.aireadiness.assessment.service.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for Idempotency-Key deduplication of assessment submissions
+ */
+class AssessmentIdempotencyServiceTest {
+
+    private AssessmentService assessmentService;
+    private AssessmentIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        assessmentService = mock(AssessmentService.class);
+        idempotencyService = new AssessmentIdempotencyService(assessmentService, 100);
+        when(assessmentService.findIdempotencyKey(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void retryReturnsOriginalResponseWithoutCreatingAgain() {
+        AssessmentResponse original = response("a_1");
+        when(assessmentService.createAssessment(any(), eq("k1"), anyString())).thenReturn(original);
+
+        assertSame(original, idempotencyService.createAssessment("k1", request(3)));
+        assertSame(original, idempotencyService.createAssessment("k1", request(3)));
+
+        verify(assessmentService, times(1)).createAssessment(any(), anyString(), anyString());
+    }
+
+    @Test
+    void concurrentDuplicatesShareOneSubmission() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assessmentService.createAssessment(any(), eq("k1"), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response("a_1");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AssessmentResponse> first = executor.submit(() -> idempotencyService.createAssessment("k1", request(3)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<AssessmentResponse> duplicate = executor.submit(() -> idempotencyService.createAssessment("k1", request(3)));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), duplicate.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(assessmentService, times(1)).createAssessment(any(), anyString(), anyString());
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() {
+        when(assessmentService.createAssessment(any(), eq("k1"), anyString())).thenReturn(response("a_1"));
+        idempotencyService.createAssessment("k1", request(3));
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> idempotencyService.createAssessment("k1", request(4)));
+    }
+
+    @Test
+    void storedKeyIsReplayedFromPersistedScores() {
+        CreateAssessmentRequest request = request(3);
+        String hash = capturedHash(request);
+        AssessmentResponse rebuilt = response("a_1");
+        when(assessmentService.findIdempotencyKey("k2")).thenReturn(Optional.of(new AssessmentIdempotencyKey("k2", hash, "a_1")));
+        when(assessmentService.getSubmissionResponse("a_1")).thenReturn(rebuilt);
+
+        assertSame(rebuilt, idempotencyService.createAssessment("k2", request));
+        verify(assessmentService, times(1)).createAssessment(any(), anyString(), anyString());
+    }
+
+    @Test
+    void keyClaimedByAnotherNodeIsReplayed() {
+        CreateAssessmentRequest request = request(3);
+        String hash = capturedHash(request);
+        AssessmentResponse rebuilt = response("a_9");
+        when(assessmentService.createAssessment(any(), eq("k2"), anyString()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(assessmentService.findIdempotencyKey("k2"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new AssessmentIdempotencyKey("k2", hash, "a_9")));
+        when(assessmentService.getSubmissionResponse("a_9")).thenReturn(rebuilt);
+
+        assertSame(rebuilt, idempotencyService.createAssessment("k2", request));
+    }
+
+    @Test
+    void failedSubmissionCanBeRetried() {
+        when(assessmentService.createAssessment(any(), eq("k1"), anyString()))
+                .thenThrow(new IllegalArgumentException("Role or version not found"))
+                .thenReturn(response("a_1"));
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.createAssessment("k1", request(3)));
+        assertEquals("a_1", idempotencyService.createAssessment("k1", request(3)).getAssessmentId());
+    }
+
+    @Test
+    void invalidKeyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.createAssessment(" ", request(3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.createAssessment("k".repeat(AssessmentIdempotencyService.MAX_KEY_LENGTH + 1), request(3)));
+    }
+
+    /**
+     * Request hash the service computes, taken from a first submission under a throwaway key
+     */
+    private String capturedHash(CreateAssessmentRequest request) {
+        String[] hash = new String[1];
+        when(assessmentService.createAssessment(any(), eq("probe"), anyString())).thenAnswer(invocation -> {
+            hash[0] = invocation.getArgument(2);
+            return response("probe");
+        });
+        idempotencyService.createAssessment("probe", request);
+        return hash[0];
+    }
+
+    private static CreateAssessmentRequest request(int value) {
+        CreateAssessmentRequest request = new CreateAssessmentRequest();
+        request.setRoleId("1");
+        request.setVersion("1");
+        request.setLocale("es");
+        request.setHoursPerWeek(8);
+        request.setConsent(true);
+        request.setAnswers(List.of(new AnswerDto("q1", value)));
+        return request;
+    }
+
+    private static AssessmentResponse response(String assessmentId) {
+        return new AssessmentResponse(assessmentId, Map.of("GLOBAL", 50.0), List.of("AI"));
+    }
+}
@@ -2,12 +2,17 @@ package com.aireadiness.assessment;
 
 import com.aireadiness.assessment.domain.Answer;
 import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.service.ScoringPlan;
+import com.aireadiness.assessment.service.ScoringPlanCache;
 import com.aireadiness.assessment.service.ScoringService;
 import com.aireadiness.catalog.domain.Question;
+import com.aireadiness.catalog.domain.Role;
 import com.aireadiness.catalog.domain.RoleQuestion;
 import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.event.CatalogChangedEvent;
 import com.aireadiness.common.domain.Pillar;
 import com.aireadiness.common.domain.QuestionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -25,7 +30,7 @@ class ScoringServiceTest {
     
     @BeforeEach
     void setUp() {
-        scoringService = new ScoringService();
+        scoringService = new ScoringService(new SimpleMeterRegistry());
     }
     
     @Test
@@ -71,13 +76,54 @@ class ScoringServiceTest {
         assertTrue(scores.getGlobalScore() < 100);
     }
     
+    @Test
+    void calculateScores_CompiledPlan_ShouldMatchAdHocScoring() {
+        // Given: A compiled plan for the role questions
+        List<RoleQuestion> roleQuestions = createTestRoleQuestions();
+        List<Answer> answers = createMixedAnswers();
+        ScoringPlan scoringPlan = ScoringPlan.compile(1L, roleQuestions);
+        
+        // When
+        ScoringService.AssessmentScores adHoc = scoringService.calculateScores(answers, roleQuestions);
+        ScoringService.AssessmentScores compiled = scoringService.calculateScores(answers, scoringPlan);
+        
+        // Then
+        assertEquals(adHoc.getGlobalScore(), compiled.getGlobalScore(), 0.0001);
+        assertEquals(adHoc.getPillarScores(), compiled.getPillarScores());
+        assertEquals(adHoc.getGaps(), compiled.getGaps());
+        assertEquals(80.0, compiled.getPillarScore(Pillar.TECH), 0.0001);
+    }
+    
+    @Test
+    void scoringPlanCache_CatalogChange_ShouldEvictPlansOfRole() {
+        // Given: A cached plan for a persisted role version
+        Role role = new Role("Backend Java", "Backend role");
+        role.setId(1L);
+        RoleVersion roleVersion = new RoleVersion(role, 1);
+        roleVersion.setId(10L);
+        roleVersion.setQuestions(createTestRoleQuestions());
+        
+        ScoringPlanCache cache = new ScoringPlanCache();
+        ScoringPlan cached = cache.getPlan(roleVersion);
+        assertSame(cached, cache.getPlan(roleVersion));
+        
+        // When: Another role changes, then this role changes
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.VERSION_CREATED, 2L));
+        assertEquals(1, cache.size());
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.VERSION_ACTIVATED, 1L));
+        
+        // Then
+        assertEquals(0, cache.size());
+        assertNotSame(cached, cache.getPlan(roleVersion));
+    }
+    
     private List<RoleQuestion> createTestRoleQuestions() {
         RoleVersion roleVersion = new RoleVersion();
         
-        Question techQuestion = new Question("q1", "Tech question", "Tech question", QuestionType.LIKERT, Pillar.TECH);
-        Question aiQuestion = new Question("q2", "AI question", "AI question", QuestionType.LIKERT, Pillar.AI);
-        Question commQuestion = new Question("q3", "Comm question", "Comm question", QuestionType.LIKERT, Pillar.COMMUNICATION);
-        Question portfolioQuestion = new Question("q4", "Portfolio question", "Portfolio question", QuestionType.LIKERT, Pillar.PORTFOLIO);
+        Question techQuestion = createQuestion(1L, "Tech question", QuestionType.LIKERT, Pillar.TECH);
+        Question aiQuestion = createQuestion(2L, "AI question", QuestionType.LIKERT, Pillar.AI);
+        Question commQuestion = createQuestion(3L, "Comm question", QuestionType.LIKERT, Pillar.COMMUNICATION);
+        Question portfolioQuestion = createQuestion(4L, "Portfolio question", QuestionType.LIKERT, Pillar.PORTFOLIO);
         
         RoleQuestion rq1 = new RoleQuestion(roleVersion, techQuestion, 1.0, 1);
         RoleQuestion rq2 = new RoleQuestion(roleVersion, aiQuestion, 1.0, 2);
@@ -87,33 +133,39 @@ class ScoringServiceTest {
         return Arrays.asList(rq1, rq2, rq3, rq4);
     }
     
+    private Question createQuestion(Long id, String text, QuestionType type, Pillar pillar) {
+        Question question = new Question(text, type, pillar);
+        question.setId(id);
+        return question;
+    }
+    
     private List<Answer> createPerfectAnswers() {
         Assessment assessment = new Assessment();
         return Arrays.asList(
-            new Answer(assessment, "q1", 5, null),
-            new Answer(assessment, "q2", 5, null),
-            new Answer(assessment, "q3", 5, null),
-            new Answer(assessment, "q4", 5, null)
+            new Answer(assessment, "1", 5, null),
+            new Answer(assessment, "2", 5, null),
+            new Answer(assessment, "3", 5, null),
+            new Answer(assessment, "4", 5, null)
         );
     }
     
     private List<Answer> createLowAnswers() {
         Assessment assessment = new Assessment();
         return Arrays.asList(
-            new Answer(assessment, "q1", 1, null),
-            new Answer(assessment, "q2", 2, null),
-            new Answer(assessment, "q3", 1, null),
-            new Answer(assessment, "q4", 2, null)
+            new Answer(assessment, "1", 1, null),
+            new Answer(assessment, "2", 2, null),
+            new Answer(assessment, "3", 1, null),
+            new Answer(assessment, "4", 2, null)
         );
     }
     
     private List<Answer> createMixedAnswers() {
         Assessment assessment = new Assessment();
         return Arrays.asList(
-            new Answer(assessment, "q1", 4, null),
-            new Answer(assessment, "q2", 3, null),
-            new Answer(assessment, "q3", 5, null),
-            new Answer(assessment, "q4", 2, null)
+            new Answer(assessment, "1", 4, null),
+            new Answer(assessment, "2", 3, null),
+            new Answer(assessment, "3", 5, null),
+            new Answer(assessment, "4", 2, null)
         );
     }
 }
@@ -4,7 +4,12 @@ import com.aireadiness.auth.controller.AuthController;
 import com.aireadiness.auth.dto.AuthResponse;
 import com.aireadiness.auth.dto.LoginRequest;
 import com.aireadiness.auth.dto.RegisterRequest;
+import com.aireadiness.auth.service.AuthRateLimiter;
 import com.aireadiness.auth.service.AuthService;
+import com.aireadiness.auth.service.PasswordHashingRejectedException;
+import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +28,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 /**
  * Tests for AuthController
  */
+@MockBean({JwtService.class, CustomUserDetailsService.class, TokenVersionService.class, AuthRateLimiter.class})
 @WebMvcTest(controllers = AuthController.class, 
             excludeAutoConfiguration = {
                 org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
@@ -106,6 +112,29 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.user.username").value("testuser"));
     }
     
+    @Test
+    void login_ShouldReturn503_OnlyWhenHashingQueueIsFull() throws Exception {
+        // Arrange
+        LoginRequest request = new LoginRequest();
+        request.setUsernameOrEmail("testuser");
+        request.setPassword("password123");
+        
+        when(authService.login(any(LoginRequest.class)))
+                .thenThrow(new PasswordHashingRejectedException(null))
+                .thenThrow(new IllegalStateException("Unrelated failure"));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+    }
+    
     @Test
     void register_ShouldReturn400_WhenInvalidRequest() throws Exception {
         // Arrange
@@ -0,0 +1,164 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.filter.AuthRateLimitFilter;
+import com.aireadiness.auth.service.AuthRateLimiter;
+import com.aireadiness.auth.service.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for token-bucket throttling of the credential endpoints
+ */
+class AuthRateLimitFilterTest {
+
+    @Test
+    void tokenBucket_ExhaustedBurst_ShouldDenyWithWaitTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1, 100, 4);
+
+        assertEquals(0, limiter.tryAcquire("k"));
+        assertEquals(0, limiter.tryAcquire("k"));
+        long wait = limiter.tryAcquire("k");
+
+        assertTrue(wait > 0);
+        assertTrue(wait <= 60_000_000_000L);
+        assertEquals(0, limiter.tryAcquire("other"));
+    }
+
+    @Test
+    void tokenBucket_FullOfThrottledKeys_ShouldNotEvictThem() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 10, 4);
+        assertEquals(0, limiter.tryAcquire("attacker"));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+
+        // Evicting a refilling bucket would hand its client a fresh burst
+        assertTrue(limiter.tryAcquire("attacker") > 0);
+        assertEquals(101, limiter.size());
+        assertEquals(0, limiter.sweepIdle());
+    }
+
+    @Test
+    void tokenBucket_Full_ShouldEvictIdleBuckets() throws InterruptedException {
+        // One token per microsecond, so every bucket is idle again almost at once
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000_000, 100, 4);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+        Thread.sleep(5);
+
+        assertEquals(0, limiter.tryAcquire("new"));
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void filter_RepeatedLoginsForSameAccount_ShouldReturn429AndKeepBodyReadable() throws Exception {
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(100, 100, 2, 1, 1000, 8);
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(rateLimiter, new ObjectMapper());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(login("10.0.0." + attempt, "Alice"), response, chain);
+
+            assertEquals(200, response.getStatus());
+            String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(forwardedBody.contains("Alice"));
+        }
+
+        // Different IP, same account with different case and padding
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.9", " alice "), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertTrue(Long.parseLong(response.getHeader("Retry-After")) >= 1);
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void filter_OtherEndpoints_ShouldNotBeLimited() throws Exception {
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(1, 1, 1, 1, 1000, 8);
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(rateLimiter, new ObjectMapper());
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/me");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void filter_OversizedBody_ShouldReturn413() throws Exception {
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(new AuthRateLimiter(100, 100, 100, 100, 1000, 8), new ObjectMapper());
+        MockHttpServletRequest request = login("10.0.0.1", "a".repeat(9000));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void filter_ChunkedBody_ShouldStillLimitByAccountOrReturn413() throws Exception {
+        AuthRateLimiter rateLimiter = new AuthRateLimiter(100, 100, 1, 1, 1000, 8);
+        AuthRateLimitFilter filter = new AuthRateLimitFilter(rateLimiter, new ObjectMapper());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(chunked(login("10.0.0.1", "alice")), response, chain);
+        assertEquals(200, response.getStatus());
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(forwardedBody.contains("alice"));
+
+        response = new MockHttpServletResponse();
+        filter.doFilter(chunked(login("10.0.0.2", "alice")), response, new MockFilterChain());
+        assertEquals(429, response.getStatus());
+
+        response = new MockHttpServletResponse();
+        filter.doFilter(chunked(login("10.0.0.3", "b".repeat(9000))), response, new MockFilterChain());
+        assertEquals(413, response.getStatus());
+    }
+
+    /**
+     * Same request without a Content-Length, as with Transfer-Encoding: chunked
+     */
+    private static MockHttpServletRequest chunked(MockHttpServletRequest request) {
+        MockHttpServletRequest chunked = new MockHttpServletRequest(request.getMethod(), request.getRequestURI()) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setRemoteAddr(request.getRemoteAddr());
+        chunked.setContentType(request.getContentType());
+        chunked.setContent(request.getContentAsByteArray());
+        return chunked;
+    }
+
+    private static MockHttpServletRequest login(String ip, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(("{\"usernameOrEmail\":\"" + username + "\",\"password\":\"x\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
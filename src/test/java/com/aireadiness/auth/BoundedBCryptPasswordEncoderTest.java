@@ -0,0 +1,88 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.service.BoundedBCryptPasswordEncoder;
+import com.aireadiness.auth.service.PasswordHashingExecutor;
+import com.aireadiness.auth.service.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BCrypt hashing on the bounded executor
+ */
+class BoundedBCryptPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_ShouldRunOnHashingPoolAndRecordLatency() {
+        executor = new PasswordHashingExecutor(meterRegistry, 2, 4);
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(executor, 4);
+
+        String hash = encoder.encode("secret123");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("auth.password.hashing.latency").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hashing.latency").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_CheaperStoredHash_ShouldRequestRehash() {
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(executor, 5);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret123")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret123")));
+    }
+
+    @Test
+    void encode_QueueFull_ShouldFailFast() throws Exception {
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // Occupy the only worker, then the only queue slot
+        Thread busy = new Thread(() -> executor.encode(() -> {
+            started.countDown();
+            release.await();
+            return "busy";
+        }));
+        busy.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = new Thread(() -> executor.encode(() -> "queued"));
+        queued.start();
+        while (executor.getQueuedHashes() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingRejectedException.class, () -> executor.encode(() -> "rejected"));
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        busy.join();
+        queued.join();
+    }
+
+    @Test
+    void calibrateCost_ShouldStayWithinBounds() {
+        assertEquals(4, BoundedBCryptPasswordEncoder.calibrateCost(0, 4, 6));
+        int cost = BoundedBCryptPasswordEncoder.calibrateCost(60_000, 4, 6);
+        assertEquals(6, cost);
+    }
+}
@@ -0,0 +1,98 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.domain.UserTokenState;
+import com.aireadiness.auth.filter.JwtAuthenticationFilter;
+import com.aireadiness.auth.repository.UserRepository;
+import com.aireadiness.auth.service.AuthService;
+import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests that access tokens stop authenticating once logout revoked them
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testSecretKeyForJwtServiceTestsThatIsLongEnough";
+
+    private final User user = new User("alice", "alice@example.com", "password123");
+
+    private UserRepository userRepository;
+    private JwtService jwtService;
+    private TokenVersionService tokenVersionService;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        user.setId("u-1");
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsernameOrEmailIgnoreCase("alice")).thenReturn(Optional.of(user));
+        when(userRepository.findTokenStateById("u-1")).thenAnswer(invocation -> Optional.of(
+                new UserTokenState(user.getTokenVersion(), user.getRole(), user.getStatus())));
+        when(userRepository.incrementTokenVersion("u-1")).thenAnswer(invocation -> {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+            return 1;
+        });
+
+        jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        tokenVersionService = new TokenVersionService(userRepository, 60, 100);
+        authService = new AuthService(userRepository, mock(PasswordEncoder.class), jwtService,
+                mock(AuthenticationManager.class), tokenVersionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void accessTokenAfterLogout_DatabaseLookup_ShouldNotAuthenticate() throws Exception {
+        assertAccessTokenRevokedByLogout(filter(false));
+    }
+
+    @Test
+    void accessTokenAfterLogout_StatelessPrincipal_ShouldNotAuthenticate() throws Exception {
+        assertAccessTokenRevokedByLogout(filter(true));
+    }
+
+    private void assertAccessTokenRevokedByLogout(JwtAuthenticationFilter filter) throws Exception {
+        String accessToken = jwtService.generateToken(user);
+        assertTrue(authenticates(filter, accessToken));
+
+        authService.logout(accessToken);
+
+        assertFalse(authenticates(filter, accessToken));
+        assertTrue(authenticates(filter, jwtService.generateToken(user)));
+    }
+
+    private JwtAuthenticationFilter filter(boolean statelessPrincipal) {
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(user);
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, tokenVersionService, statelessPrincipal);
+    }
+
+    private static boolean authenticates(JwtAuthenticationFilter filter, String accessToken) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/roles");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+}
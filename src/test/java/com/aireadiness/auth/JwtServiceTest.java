@@ -0,0 +1,138 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.domain.TokenPrincipal;
+import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.domain.UserRole;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for single-parse token verification and the verified-token cache
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "testSecretKeyForJwtServiceTestsThatIsLongEnough";
+
+    private final User user = new User("alice", "alice@example.com", "password123");
+
+    @Test
+    void verify_ValidToken_ShouldReturnClaimsAndReuseCachedInstance() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        assertEquals("alice", first.subject());
+        assertFalse(first.isRefreshToken());
+        assertNotNull(first.expiresAt());
+        assertSame(first, second);
+        assertEquals(1, jwtService.verifiedCacheSize());
+        assertTrue(jwtService.isTokenValid(token, user));
+    }
+
+    @Test
+    void verify_RefreshToken_ShouldExposeType() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+
+        String refresh = jwtService.generateRefreshToken(user);
+
+        assertTrue(jwtService.verify(refresh).isRefreshToken());
+        assertTrue(jwtService.isRefreshToken(refresh));
+        assertThrows(UnsupportedOperationException.class, () -> jwtService.verify(refresh).claims().put("x", 1));
+    }
+
+    @Test
+    void generateRefreshToken_ShouldCarryTokenVersion() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        user.setTokenVersion(3);
+
+        assertEquals(3, jwtService.tokenVersion(jwtService.verify(jwtService.generateRefreshToken(user))));
+    }
+
+    @Test
+    void verify_TokenSignedWithOtherKey_ShouldBeRejectedAndNotCached() {
+        JwtService issuer = new JwtService(new SimpleMeterRegistry(), "anotherSecretKeyThatIsAlsoLongEnoughForHmac256", 60_000, 120_000, 100);
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        String forged = issuer.generateToken(user);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+        assertEquals(0, jwtService.verifiedCacheSize());
+        assertFalse(jwtService.isRefreshToken(forged));
+    }
+
+    @Test
+    void verify_ExpiredToken_ShouldBeRejected() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, -1_000, -1_000, 100);
+        String token = jwtService.generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+        assertTrue(jwtService.isTokenExpired(token));
+        assertFalse(jwtService.isTokenValid(token, user));
+    }
+
+    @Test
+    void verify_ShouldTimeEachOutcomeAndCacheHit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtService jwtService = new JwtService(registry, SECRET, 60_000, 120_000, 100);
+        String token = jwtService.generateToken(user);
+
+        jwtService.verify(token);
+        jwtService.verify(token);
+        assertThrows(JwtException.class, () -> jwtService.verify("not-a-token"));
+
+        assertEquals(1, verifyCount(registry, "miss", "valid"));
+        assertEquals(1, verifyCount(registry, "hit", "valid"));
+        assertEquals(1, verifyCount(registry, "miss", "invalid"));
+        assertEquals(0, verifyCount(registry, "miss", "expired"));
+    }
+
+    private static long verifyCount(SimpleMeterRegistry registry, String cache, String outcome) {
+        return registry.get("auth.jwt.verify").tag("cache", cache).tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void verify_ManyTokens_ShouldKeepCacheBounded() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 3);
+
+        for (int i = 0; i < 10; i++) {
+            jwtService.verify(jwtService.generateToken(new User("user" + i, "user" + i + "@example.com", "password123")));
+        }
+
+        assertTrue(jwtService.verifiedCacheSize() <= 3);
+    }
+
+    @Test
+    void toPrincipal_AccessTokenOfPersistedUser_ShouldRebuildPrincipalFromClaims() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        User admin = new User("root", "root@example.com", "password123", UserRole.ADMIN);
+        admin.setId("u-1");
+        admin.setTokenVersion(3);
+
+        TokenPrincipal principal = jwtService.toPrincipal(jwtService.verify(jwtService.generateToken(admin)));
+
+        assertEquals("u-1", principal.id());
+        assertEquals("root", principal.getUsername());
+        assertEquals(UserRole.ADMIN, principal.role());
+        assertEquals(3, principal.tokenVersion());
+        assertTrue(principal.isEnabled());
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().iterator().next().getAuthority());
+        assertTrue(jwtService.isTokenValid(jwtService.verify(jwtService.generateToken(admin)), principal));
+    }
+
+    @Test
+    void toPrincipal_RefreshOrLegacyToken_ShouldReturnNull() {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), SECRET, 60_000, 120_000, 100);
+        User persisted = new User("bob", "bob@example.com", "password123");
+        persisted.setId("u-2");
+
+        assertNull(jwtService.toPrincipal(jwtService.verify(jwtService.generateRefreshToken(persisted))));
+        assertNull(jwtService.toPrincipal(jwtService.verify(jwtService.generateToken(user))));
+    }
+}
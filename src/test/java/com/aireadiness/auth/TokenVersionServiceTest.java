@@ -0,0 +1,90 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.domain.TokenPrincipal;
+import com.aireadiness.auth.domain.UserRole;
+import com.aireadiness.auth.domain.UserStatus;
+import com.aireadiness.auth.domain.UserTokenState;
+import com.aireadiness.auth.repository.UserRepository;
+import com.aireadiness.auth.service.TokenVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the cached per-user token version check
+ */
+class TokenVersionServiceTest {
+
+    private UserRepository userRepository;
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenVersionService = new TokenVersionService(userRepository, 60, 100);
+    }
+
+    @Test
+    void isCurrent_RepeatedChecks_ShouldHitDatabaseOnce() {
+        when(userRepository.findTokenStateById("u-1")).thenReturn(Optional.of(active(2)));
+
+        assertTrue(tokenVersionService.isCurrent(principal("u-1", 2)));
+        assertTrue(tokenVersionService.isCurrent(principal("u-1", 2)));
+        assertFalse(tokenVersionService.isCurrent(principal("u-1", 1)));
+
+        verify(userRepository, times(1)).findTokenStateById("u-1");
+    }
+
+    @Test
+    void isCurrent_UnknownUser_ShouldBeFalseAndNotCached() {
+        when(userRepository.findTokenStateById("gone")).thenReturn(Optional.empty());
+
+        assertFalse(tokenVersionService.isCurrent(principal("gone", 0)));
+        assertEquals(0, tokenVersionService.cacheSize());
+    }
+
+    @Test
+    void isCurrent_SuspendedOrDowngradedUser_ShouldBeFalse() {
+        when(userRepository.findTokenStateById("suspended"))
+                .thenReturn(Optional.of(new UserTokenState(0, UserRole.USER, UserStatus.SUSPENDED)));
+        when(userRepository.findTokenStateById("downgraded"))
+                .thenReturn(Optional.of(new UserTokenState(0, UserRole.USER, UserStatus.ACTIVE)));
+
+        assertFalse(tokenVersionService.isCurrent(principal("suspended", 0)));
+        assertFalse(tokenVersionService.isCurrent(
+                new TokenPrincipal("downgraded", "bob", UserRole.ADMIN, UserStatus.ACTIVE, 0)));
+    }
+
+    @Test
+    void revoke_ShouldBumpVersionAndDropCachedEntry() {
+        when(userRepository.findTokenStateById("u-1")).thenReturn(Optional.of(active(0)), Optional.of(active(1)));
+        assertTrue(tokenVersionService.isCurrent(principal("u-1", 0)));
+
+        tokenVersionService.revoke("u-1");
+
+        verify(userRepository).incrementTokenVersion("u-1");
+        assertFalse(tokenVersionService.isCurrent(principal("u-1", 0)));
+        assertTrue(tokenVersionService.isCurrent(principal("u-1", 1)));
+    }
+
+    @Test
+    void isCurrent_ExpiredTtl_ShouldReload() {
+        TokenVersionService noCache = new TokenVersionService(userRepository, 0, 100);
+        when(userRepository.findTokenStateById("u-1")).thenReturn(Optional.of(active(0)), Optional.of(active(1)));
+
+        assertTrue(noCache.isCurrent(principal("u-1", 0)));
+        assertFalse(noCache.isCurrent(principal("u-1", 0)));
+    }
+
+    private static UserTokenState active(int version) {
+        return new UserTokenState(version, UserRole.USER, UserStatus.ACTIVE);
+    }
+
+    private static TokenPrincipal principal(String id, int version) {
+        return new TokenPrincipal(id, "alice", UserRole.USER, UserStatus.ACTIVE, version);
+    }
+}
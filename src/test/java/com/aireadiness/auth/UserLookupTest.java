@@ -0,0 +1,51 @@
+package com.aireadiness.auth;
+
+import com.aireadiness.auth.domain.User;
+import com.aireadiness.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the split username/email lookup
+ */
+class UserLookupTest {
+
+    private UserRepository userRepository;
+    private final User alice = new User("alice", "alice@example.com", "password123");
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsernameOrEmailIgnoreCase(anyString())).thenCallRealMethod();
+    }
+
+    @Test
+    void findByUsernameOrEmail_Username_ShouldProbeUsernameOnly() {
+        when(userRepository.findByUsernameIgnoreCase("Alice")).thenReturn(Optional.of(alice));
+
+        assertSame(alice, userRepository.findByUsernameOrEmailIgnoreCase("Alice").orElseThrow());
+        verify(userRepository, never()).findByEmailIgnoreCase(anyString());
+    }
+
+    @Test
+    void findByUsernameOrEmail_Email_ShouldFallBackToEmailProbe() {
+        when(userRepository.findByUsernameIgnoreCase(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmailIgnoreCase("ALICE@example.com")).thenReturn(Optional.of(alice));
+
+        assertSame(alice, userRepository.findByUsernameOrEmailIgnoreCase("ALICE@example.com").orElseThrow());
+    }
+
+    @Test
+    void findByUsernameOrEmail_UnknownNameWithoutAt_ShouldSkipEmailProbe() {
+        when(userRepository.findByUsernameIgnoreCase(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(userRepository.findByUsernameOrEmailIgnoreCase("nobody").isEmpty());
+        verify(userRepository, never()).findByEmailIgnoreCase(anyString());
+    }
+}
@@ -1,5 +1,9 @@
 package com.aireadiness.catalog;
 
+import com.aireadiness.auth.service.AuthRateLimiter;
+import com.aireadiness.auth.service.CustomUserDetailsService;
+import com.aireadiness.auth.service.JwtService;
+import com.aireadiness.auth.service.TokenVersionService;
 import com.aireadiness.catalog.controller.CatalogController;
 import com.aireadiness.catalog.service.CatalogService;
 import org.junit.jupiter.api.Test;
@@ -18,6 +22,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 /**
  * Tests for CatalogController
  */
+@MockBean({JwtService.class, CustomUserDetailsService.class, TokenVersionService.class, AuthRateLimiter.class})
 @WebMvcTest(controllers = CatalogController.class, 
             excludeAutoConfiguration = {
                 org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
@@ -44,10 +49,10 @@ class CatalogControllerTest {
     
     @Test
     void getQuestionsForRole_ShouldReturn404_WhenRoleNotFound() throws Exception {
-        when(catalogService.getQuestionsForRole("non-existent", null, "es-ES"))
+        when(catalogService.getQuestionsForRole(999L, null, "es-ES"))
                 .thenThrow(new IllegalArgumentException("Role not found"));
         
-        mockMvc.perform(get("/api/v1/roles/non-existent/questions")
+        mockMvc.perform(get("/api/v1/roles/999/questions")
                         .header("Accept-Language", "es-ES"))
                 .andExpect(status().isNotFound());
     }
@@ -0,0 +1,102 @@
+package com.aireadiness.catalog;
+
+import com.aireadiness.catalog.domain.Question;
+import com.aireadiness.catalog.domain.Role;
+import com.aireadiness.catalog.domain.RoleQuestion;
+import com.aireadiness.catalog.domain.RoleVersion;
+import com.aireadiness.catalog.dto.QuestionDto;
+import com.aireadiness.catalog.event.CatalogChangedEvent;
+import com.aireadiness.catalog.repository.RoleRepository;
+import com.aireadiness.catalog.repository.RoleVersionRepository;
+import com.aireadiness.catalog.service.CatalogCache;
+import com.aireadiness.catalog.service.CatalogService;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.common.domain.QuestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for CatalogService read-through caching
+ */
+class CatalogServiceTest {
+
+    private RoleRepository roleRepository;
+    private RoleVersionRepository roleVersionRepository;
+    private CatalogCache catalogCache;
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        roleVersionRepository = mock(RoleVersionRepository.class);
+        catalogCache = new CatalogCache(16);
+        catalogService = new CatalogService(roleRepository, roleVersionRepository, catalogCache);
+    }
+
+    @Test
+    void getQuestionsForRole_SecondCall_ShouldBeServedFromCache() {
+        // Given
+        RoleVersion roleVersion = createRoleVersion();
+        when(roleVersionRepository.findActiveByRoleIdWithQuestions(1L)).thenReturn(Optional.of(roleVersion));
+
+        // When
+        List<QuestionDto> first = catalogService.getQuestionsForRole(1L, null, "es-ES");
+        List<QuestionDto> second = catalogService.getQuestionsForRole(1L, null, "es-ES,es;q=0.9");
+        List<QuestionDto> pinned = catalogService.getQuestionsForRole(1L, 1, "es-ES");
+
+        // Then
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        assertSame(first, pinned);
+        verify(roleVersionRepository, times(1)).findActiveByRoleIdWithQuestions(1L);
+        verify(roleVersionRepository, never()).findByRoleIdAndVersionNumberWithQuestions(anyLong(), anyInt());
+    }
+
+    @Test
+    void getQuestionsForRole_AfterCatalogChange_ShouldReloadFromDatabase() {
+        // Given
+        RoleVersion roleVersion = createRoleVersion();
+        when(roleVersionRepository.findByRoleIdAndVersionNumberWithQuestions(1L, 1)).thenReturn(Optional.of(roleVersion));
+        catalogService.getQuestionsForRole(1L, 1, "es-ES");
+
+        // When
+        catalogCache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.VERSION_ACTIVATED, 1L));
+        catalogService.getQuestionsForRole(1L, 1, "es-ES");
+
+        // Then
+        verify(roleVersionRepository, times(2)).findByRoleIdAndVersionNumberWithQuestions(1L, 1);
+    }
+
+    @Test
+    void putQuestions_LoadedBeforeInvalidation_ShouldNotBeCached() {
+        // Given: A load that started before an admin change committed
+        long generation = catalogCache.generation();
+        catalogCache.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Type.QUESTION_UPDATED, null));
+
+        // When
+        catalogCache.putQuestions(generation, "1", "1", "es-ES", List.of());
+
+        // Then
+        assertNull(catalogCache.getQuestions("1", "1", "es-ES"));
+    }
+
+    private RoleVersion createRoleVersion() {
+        Role role = new Role("Backend Java", "Backend role");
+        role.setId(1L);
+        RoleVersion roleVersion = new RoleVersion(role, 1);
+        roleVersion.setId(10L);
+
+        Question question = new Question("Tech question", QuestionType.LIKERT, Pillar.TECH);
+        question.setId(100L);
+        roleVersion.getQuestions().add(new RoleQuestion(roleVersion, question, 1.0, 1));
+        return roleVersion;
+    }
+}
@@ -0,0 +1,68 @@
+package com.aireadiness.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final CircuitBreaker breaker = new CircuitBreaker(3, 10_000, clock::get);
+
+    @Test
+    void consecutiveFailures_ShouldOpenAtThreshold() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertTrue(breaker.tryAcquire());
+
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void success_ShouldResetFailureCount() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpen_ShouldAllowOneTrialAndCloseOnSuccess() {
+        open();
+        clock.addAndGet(10_000);
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.recordSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_FailedTrialShouldReopen() {
+        open();
+        clock.addAndGet(10_000);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.aireadiness.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for time-ordered id generation
+ */
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void next_ShouldEncodePrefixAndTimestamp() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1_700_000_000_123L);
+
+        String id = generator.next("a_");
+
+        assertEquals(2 + TimeOrderedIdGenerator.ID_LENGTH, id.length());
+        assertTrue(id.startsWith("a_"));
+        assertTrue(id.substring(2).matches("[0-9A-HJKMNP-TV-Z]{26}"), id);
+        assertEquals(1_700_000_000_123L, TimeOrderedIdGenerator.timestampOf(id, 2));
+    }
+
+    @Test
+    void next_LaterMillisecond_ShouldSortAfter() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            clock.incrementAndGet();
+            ids.add(generator.next("r_"));
+        }
+
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        assertEquals(ids, sorted);
+    }
+
+    @Test
+    void next_ClockMovesBackwards_ShouldKeepLastTimestamp() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+
+        generator.next("a_");
+        clock.addAndGet(-5_000);
+        String id = generator.next("a_");
+
+        assertEquals(1_700_000_000_000L, TimeOrderedIdGenerator.timestampOf(id, 2));
+    }
+
+    @Test
+    void next_SameMillisecond_ShouldNotCollide() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(ids.add(generator.next("a_")));
+        }
+    }
+
+    @Test
+    void next_ManyThreadsSharingStripes_ShouldNotCollide() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 64; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    ids.add(generator.next("a_"));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(64_000, ids.size());
+    }
+}
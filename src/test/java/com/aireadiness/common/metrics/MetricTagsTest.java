@@ -0,0 +1,29 @@
+package com.aireadiness.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricTagsTest {
+
+    @Test
+    void role_SpellingsOfSameId_ShouldShareOneValue() {
+        assertEquals("1", MetricTags.role("1"));
+        assertEquals("1", MetricTags.role("01"));
+        assertEquals("1", MetricTags.role(" 1"));
+        assertEquals("1", MetricTags.role("+1"));
+    }
+
+    @Test
+    void role_Unparseable_ShouldBeUnknown() {
+        assertEquals(MetricTags.UNKNOWN, MetricTags.role("x"));
+        assertEquals(MetricTags.UNKNOWN, MetricTags.role((String) null));
+        assertEquals(MetricTags.UNKNOWN, MetricTags.role((Long) null));
+    }
+
+    @Test
+    void locale_Unsupported_ShouldBeOther() {
+        assertEquals("en-US", MetricTags.locale("en-US"));
+        assertEquals(MetricTags.OTHER, MetricTags.locale("en-us"));
+    }
+}
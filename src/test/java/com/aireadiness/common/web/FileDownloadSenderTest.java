@@ -0,0 +1,132 @@
+package com.aireadiness.common.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for conditional and ranged file downloads
+ */
+class FileDownloadSenderTest {
+
+    @TempDir
+    Path directory;
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-05-01T10:00:00Z");
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(directory.resolve("report.pdf"), "0123456789");
+    }
+
+    @Test
+    void send_NoConditions_ShouldReturnWholeFileWithValidators() throws Exception {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+    }
+
+    @Test
+    void send_MatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-None-Match", "W/\"abc\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void send_LastModifiedGiven_ShouldUseItInsteadOfFileTime() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED.toEpochMilli());
+
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(LAST_MODIFIED.toEpochMilli(), response.getDateHeader("Last-Modified"));
+    }
+
+    @Test
+    void send_Range_ShouldReturnPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=2-4");
+        request.addHeader("If-Range", "\"abc\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("234", response.getContentAsString());
+        assertEquals("bytes 2-4/10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void send_RangeWithStaleIfRange_ShouldReturnWholeFile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=2-4");
+        request.addHeader("If-Range", "\"old\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    void send_UnsatisfiableRange_ShouldReturn416() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Range", "bytes=20-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void send_GzipWeightedZero_ShouldNotSendGzipVariant() throws Exception {
+        Path gzipFile = Files.writeString(directory.resolve("report.pdf.gz"), "compressed");
+
+        for (String refusal : new String[] {"gzip;q=0", "gzip; q=0.0", "br, gzip;q=0.000"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+            request.addHeader("Accept-Encoding", refusal);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            FileDownloadSender.send(request, response, file, gzipFile, "abc", LAST_MODIFIED, "application/pdf", "attachment");
+
+            assertNull(response.getHeader("Content-Encoding"), refusal);
+            assertEquals("0123456789", response.getContentAsString());
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader("Accept-Encoding", "gzip;q=0.5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileDownloadSender.send(request, response, file, gzipFile, "abc", LAST_MODIFIED, "application/pdf", "attachment");
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void parseRange_SuffixRange_ShouldCoverLastBytes() {
+        assertArrayEquals(new long[] {7, 9}, FileDownloadSender.parseRange("bytes=-3", 10));
+        assertNull(FileDownloadSender.parseRange("bytes=0-1,4-5", 10));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileDownloadSender.send(request, response, file, null, "abc", LAST_MODIFIED, "application/pdf", "attachment");
+        return response;
+    }
+}
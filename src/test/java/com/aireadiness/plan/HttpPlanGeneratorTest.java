@@ -0,0 +1,174 @@
+package com.aireadiness.plan;
+
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.plan.dto.PlanDto;
+import com.aireadiness.plan.service.HttpPlanGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HttpPlanGenerator against a local stub plan service
+ */
+class HttpPlanGeneratorTest {
+
+    private static final String PROVIDER_PLAN = """
+            {"summary": "Provider plan", "timeBudgetHoursPerWeek": 8, "priorities": [
+              {"name": "Learn RAG", "why": "AI gap", "milestones": {
+                "d30": [{"task": "Build a prototype", "hours": 8}], "d60": [], "d90": []},
+               "evidenceOfDone": ["Demo"]}]}
+            """;
+
+    private static final Map<Pillar, Double> SCORES = Map.of(Pillar.AI, 40.0, Pillar.TECH, 80.0);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ExecutorService stubExecutor = Executors.newCachedThreadPool();
+    private volatile StubResponse response = exchange -> reply(exchange, 200, PROVIDER_PLAN);
+
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/plans", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            response.handle(exchange);
+        });
+        server.setExecutor(stubExecutor);
+        server.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void generatePlan_ProviderAnswers_ShouldReturnProviderPlan() {
+        PlanDto plan = generator(2_000, 5).generatePlan("1", SCORES, List.of("q1"), 8, "en-US");
+
+        assertEquals("Provider plan", plan.getSummary());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void generatePlan_ProviderTooSlow_ShouldFallBackWithinDeadline() {
+        response = exchange -> {
+            sleep(3_000);
+            reply(exchange, 200, PROVIDER_PLAN);
+        };
+
+        long start = System.nanoTime();
+        PlanDto plan = generator(200, 5).generatePlan("1", SCORES, List.of("q1"), 8, "en-US");
+
+        assertNotEquals("Provider plan", plan.getSummary());
+        assertFalse(plan.getPriorities().isEmpty());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2_000);
+        assertEquals(1.0, registry.get("plan.provider.fallback").tag("reason", "timeout").counter().count());
+    }
+
+    @Test
+    void generatePlan_InvalidPlan_ShouldFallBack() {
+        response = exchange -> reply(exchange, 200, "{\"summary\": \"No priorities\", \"priorities\": []}");
+
+        PlanDto plan = generator(2_000, 5).generatePlan("1", SCORES, List.of("q1"), 8, "en-US");
+
+        assertNotEquals("No priorities", plan.getSummary());
+        assertEquals(1.0, registry.get("plan.provider.fallback").tag("reason", "invalid").counter().count());
+    }
+
+    @Test
+    void generatePlan_RepeatedFailures_ShouldOpenCircuitAndStopCallingProvider() {
+        response = exchange -> reply(exchange, 503, "");
+        HttpPlanGenerator generator = generator(2_000, 2);
+
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(generator.generatePlan("1", SCORES, List.of("q1"), 8, "en-US"));
+        }
+
+        // A failure may also be a dropped keep-alive connection that never reached the stub
+        assertTrue(requests.get() <= 2);
+        assertEquals(3.0, registry.get("plan.provider.fallback").tag("reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void generatePlan_IdenticalConcurrentRequests_ShouldShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        response = exchange -> {
+            await(release);
+            reply(exchange, 200, PROVIDER_PLAN);
+        };
+        HttpPlanGenerator generator = generator(5_000, 5);
+
+        CompletableFuture<PlanDto> first = CompletableFuture.supplyAsync(
+                () -> generator.generatePlan("1", SCORES, List.of("q1"), 8, "en-US"));
+        while (requests.get() == 0) {
+            Thread.sleep(10);
+        }
+        CompletableFuture<PlanDto> second = CompletableFuture.supplyAsync(
+                () -> generator.generatePlan("1", SCORES, List.of("q1"), 8, "en-US"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals("Provider plan", first.get(5, TimeUnit.SECONDS).getSummary());
+        assertEquals("Provider plan", second.get(5, TimeUnit.SECONDS).getSummary());
+        assertEquals(1, requests.get());
+    }
+
+    private HttpPlanGenerator generator(long timeoutMs, int failureThreshold) {
+        return new HttpPlanGenerator(new ObjectMapper(), registry,
+                "http://localhost:" + server.getAddress().getPort() + "/plans", "",
+                timeoutMs, 1_000, 4, failureThreshold, 60_000);
+    }
+
+    private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubResponse {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
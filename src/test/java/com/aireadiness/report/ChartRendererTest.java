@@ -0,0 +1,55 @@
+package com.aireadiness.report;
+
+import com.aireadiness.report.service.ChartImage;
+import com.aireadiness.report.service.ChartRenderer;
+import com.aireadiness.report.service.PdfDocumentWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for chart rendering and the quantized chart cache
+ */
+class ChartRendererTest {
+
+    private final ChartRenderer chartRenderer = new ChartRenderer(5, 16, 2);
+
+    @Test
+    void barChart_NearIdenticalScores_ShouldShareCachedImage() {
+        // When
+        ChartImage first = chartRenderer.barChart(Map.of("TECH", 74.0, "AI", 65.0, "COMMUNICATION", 80.0, "PORTFOLIO", 61.0));
+        ChartImage second = chartRenderer.barChart(Map.of("TECH", 76.0, "AI", 64.0, "COMMUNICATION", 80.0, "PORTFOLIO", 59.0));
+        ChartImage different = chartRenderer.barChart(Map.of("TECH", 90.0, "AI", 65.0, "COMMUNICATION", 80.0, "PORTFOLIO", 60.0));
+
+        // Then
+        assertSame(first, second);
+        assertNotSame(first, different);
+        assertEquals(2, chartRenderer.cacheSize());
+        assertEquals(4, first.labels().size());
+        assertTrue(first.pixels().length > 0);
+    }
+
+    @Test
+    void image_SameChartTwice_ShouldEmbedImageObjectOnce() throws Exception {
+        // Given
+        ChartImage radar = chartRenderer.radarChart(Map.of("TECH", 50.0, "AI", 50.0));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (PdfDocumentWriter pdf = new PdfDocumentWriter(Channels.newChannel(out), 1024, "Charts")) {
+            pdf.image(radar, 200f);
+            pdf.image(radar, 200f);
+        }
+
+        // Then
+        String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertEquals(1, pdf.split("/Subtype /Image", -1).length - 1);
+        assertEquals(2, pdf.split(" Do Q", -1).length - 1);
+        assertTrue(pdf.contains("/XObject << /Im"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.aireadiness.report;
+
+import com.aireadiness.report.service.ChartImage;
+import com.aireadiness.report.service.PdfDocumentWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming PDF writer
+ */
+class PdfDocumentWriterTest {
+
+    @Test
+    void close_LongDocument_ShouldProduceValidCrossReferenceAcrossPages() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When: Small buffer to force many channel writes
+        try (PdfDocumentWriter pdf = new PdfDocumentWriter(Channels.newChannel(out), 256, "Report (Q3)")) {
+            pdf.title("AI READINESS ASSESSMENT REPORT");
+            for (int i = 0; i < 200; i++) {
+                pdf.paragraph("Line " + i + " with (parentheses) and a backslash \\ to escape");
+            }
+        }
+
+        // Then
+        String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("(Line 7 with \\(parentheses\\) and a backslash \\\\ to escape) Tj"));
+
+        Matcher count = Pattern.compile("/Type /Pages /Count (\\d+)").matcher(pdf);
+        assertTrue(count.find());
+        assertTrue(Integer.parseInt(count.group(1)) > 1);
+
+        int startxref = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+        assertTrue(pdf.startsWith("xref\n", startxref));
+
+        Matcher entries = Pattern.compile("(\\d{10}) 00000 n \n").matcher(pdf.substring(startxref));
+        int object = 1;
+        while (entries.find()) {
+            int offset = Integer.parseInt(entries.group(1));
+            assertTrue(pdf.startsWith(object + " 0 obj\n", offset), "Bad offset for object " + object);
+            object++;
+        }
+        assertTrue(object > 5);
+    }
+
+    @Test
+    void paragraph_WordWiderThanLine_ShouldBeBrokenAcrossLines() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (PdfDocumentWriter pdf = new PdfDocumentWriter(Channels.newChannel(out), 4096, "Report")) {
+            pdf.paragraph("see " + "x".repeat(500));
+        }
+
+        // Then: 'x' is 500/1000 em, so 87 fit in the 483 pt text width at 11 pt
+        String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        Matcher lines = Pattern.compile("\\((x+)\\) Tj").matcher(pdf);
+        int total = 0;
+        while (lines.find()) {
+            assertTrue(lines.group(1).length() <= 87, "Line too wide: " + lines.group(1).length());
+            total += lines.group(1).length();
+        }
+        assertEquals(500, total);
+        assertTrue(pdf.contains("(see) Tj"));
+    }
+
+    @Test
+    void image_TallerThanPage_ShouldBeScaledWithinMargins() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartImage chart = new ChartImage(10, 1000, new byte[16], List.of());
+
+        // When
+        try (PdfDocumentWriter pdf = new PdfDocumentWriter(Channels.newChannel(out), 4096, "Report")) {
+            pdf.image(chart, 400f);
+        }
+
+        // Then: Drawn no lower than the bottom margin and no taller than the page body
+        String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        Matcher placement = Pattern.compile("q ([\\d.]+) 0 0 ([\\d.]+) ([\\d.]+) ([-\\d.]+) cm /Im").matcher(pdf);
+        assertTrue(placement.find());
+        assertTrue(Float.parseFloat(placement.group(2)) <= 842f - 2 * 56f);
+        assertTrue(Float.parseFloat(placement.group(4)) >= 56f);
+        assertEquals(Float.parseFloat(placement.group(2)) / 100, Float.parseFloat(placement.group(1)), 0.01f);
+    }
+}
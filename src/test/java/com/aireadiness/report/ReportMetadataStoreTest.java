@@ -0,0 +1,88 @@
+package com.aireadiness.report;
+
+import com.aireadiness.report.domain.Report;
+import com.aireadiness.report.dto.ReportResponse;
+import com.aireadiness.report.dto.ReportStatus;
+import com.aireadiness.report.repository.ReportRepository;
+import com.aireadiness.report.service.ReportMetadataStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for persisted report metadata and its cache
+ */
+class ReportMetadataStoreTest {
+
+    private ReportRepository reportRepository;
+    private ReportMetadataStore reportStore;
+
+    @BeforeEach
+    void setUp() {
+        reportRepository = mock(ReportRepository.class);
+        reportStore = new ReportMetadataStore(reportRepository, new ObjectMapper(), 100);
+    }
+
+    @Test
+    void findById_CompletedReportFromOtherNode_ShouldRoundTripAndBeCached() {
+        // Given: A report saved by another node
+        ReportResponse completed = new ReportResponse("r_1", "a1", ReportStatus.COMPLETED);
+        completed.setExpiresAt(LocalDateTime.now().plusDays(30));
+        completed.setScores(Map.of("TECH", 75.0));
+        completed.setGaps(List.of("gap"));
+        new ReportMetadataStore(reportRepository, new ObjectMapper(), 100).save(completed);
+
+        ArgumentCaptor<Report> saved = ArgumentCaptor.forClass(Report.class);
+        verify(reportRepository).save(saved.capture());
+        when(reportRepository.findById("r_1")).thenReturn(Optional.of(saved.getValue()));
+
+        // When
+        ReportResponse first = reportStore.findById("r_1").orElseThrow();
+        reportStore.findById("r_1");
+
+        // Then
+        assertEquals(75.0, first.getScores().get("TECH"));
+        assertEquals(List.of("gap"), first.getGaps());
+        assertEquals("/api/v1/reports/r_1/download", first.getDownloadUrl());
+        verify(reportRepository, times(1)).findById("r_1");
+    }
+
+    @Test
+    void findById_GeneratingReport_ShouldNotBeCachedFromDatabase() {
+        // Given
+        when(reportRepository.findById("r_2")).thenReturn(Optional.of(new Report("r_2", "a1", ReportStatus.GENERATING)));
+
+        // When
+        reportStore.findById("r_2");
+        reportStore.findById("r_2");
+
+        // Then: Each poll sees the latest status
+        verify(reportRepository, times(2)).findById("r_2");
+        assertEquals(0, reportStore.cacheSize());
+    }
+
+    @Test
+    void evictExpired_ShouldDropExpiredEntries() {
+        // Given
+        ReportResponse report = new ReportResponse("r_3", "a1", ReportStatus.COMPLETED);
+        report.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        reportStore.save(report);
+
+        // When
+        reportStore.evictExpired();
+
+        // Then
+        assertEquals(0, reportStore.cacheSize());
+        verify(reportRepository).save(any(Report.class));
+    }
+}
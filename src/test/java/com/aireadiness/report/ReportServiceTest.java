@@ -0,0 +1,194 @@
+package com.aireadiness.report;
+
+import com.aireadiness.assessment.domain.Assessment;
+import com.aireadiness.assessment.domain.AssessmentScore;
+import com.aireadiness.assessment.service.AssessmentService;
+import com.aireadiness.common.domain.Pillar;
+import com.aireadiness.report.dto.ReportRequest;
+import com.aireadiness.report.dto.ReportResponse;
+import com.aireadiness.report.dto.ReportStatus;
+import com.aireadiness.report.repository.ReportRepository;
+import com.aireadiness.report.service.EmailService;
+import com.aireadiness.report.service.PdfGenerationService;
+import com.aireadiness.report.service.ReportJobExecutor;
+import com.aireadiness.report.service.ReportMetadataStore;
+import com.aireadiness.report.service.ReportRenderCache;
+import com.aireadiness.report.service.ReportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for asynchronous report generation
+ */
+class ReportServiceTest {
+
+    private final CountDownLatch renderGate = new CountDownLatch(1);
+
+    @TempDir
+    Path reportsDirectory;
+
+    private AssessmentService assessmentService;
+    private PdfGenerationService pdfGenerationService;
+    private ReportJobExecutor reportJobExecutor;
+    private ReportService reportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assessmentService = mock(AssessmentService.class);
+        pdfGenerationService = mock(PdfGenerationService.class);
+        reportJobExecutor = new ReportJobExecutor(2, 10);
+        ReportMetadataStore reportStore = new ReportMetadataStore(mock(ReportRepository.class), new ObjectMapper(), 100);
+        reportService = new ReportService(assessmentService, pdfGenerationService, mock(EmailService.class),
+                reportJobExecutor, reportStore, new ReportRenderCache(reportsDirectory.toString(), 1 << 20),
+                new SimpleMeterRegistry(),
+                reportsDirectory.toString(), false);
+
+        when(assessmentService.findAssessment("a1")).thenReturn(new Assessment("a1", "1", "1", "es", 8));
+        AssessmentScore scores = new AssessmentScore("a1", 62.5, List.of("AI"), 10);
+        scores.setPillarScore(Pillar.AI, 40.0);
+        when(assessmentService.getScores("a1")).thenReturn(scores);
+        doAnswer(invocation -> {
+            renderGate.await(5, TimeUnit.SECONDS);
+            return Files.writeString(Path.of(invocation.<String>getArgument(2)), "report");
+        })
+                .when(pdfGenerationService).generateAssessmentReport(any(), any(), anyString(), anyString(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderGate.countDown();
+        reportJobExecutor.shutdown();
+    }
+
+    @Test
+    void generateReport_ShouldReturnGeneratingAndCompleteInBackground() throws Exception {
+        // When
+        ReportResponse response = reportService.generateReport("a1", null);
+
+        // Then: Returned before rendering finished
+        assertEquals(ReportStatus.GENERATING, response.getStatus());
+
+        renderGate.countDown();
+        assertEquals(ReportStatus.COMPLETED, awaitFinalStatus(response.getReportId()));
+        assertNotNull(reportService.getReportMetadata(response.getReportId()).getDownloadUrl());
+        assertNotNull(reportService.getReportFile(response.getReportId()).contentHash());
+
+        // Persisted scores are used as-is, not recomputed or mocked
+        ReportResponse completed = reportService.getReportMetadata(response.getReportId());
+        assertEquals(40.0, completed.getScores().get("AI"));
+        assertEquals(62.5, completed.getScores().get("OVERALL"));
+        assertEquals(List.of("AI"), completed.getGaps());
+        // Answers are never loaded for a report
+        verify(assessmentService, never()).getAssessment(anyString());
+    }
+
+    @Test
+    void generateReport_IdenticalRequestInFlight_ShouldReuseReport() throws Exception {
+        // When
+        ReportResponse first = reportService.generateReport("a1", new ReportRequest("Q3", null));
+        ReportResponse second = reportService.generateReport("a1", new ReportRequest("Q3", null));
+        ReportResponse otherOptions = reportService.generateReport("a1", new ReportRequest("Q4", null));
+
+        // Then
+        assertEquals(first.getReportId(), second.getReportId());
+        assertNotEquals(first.getReportId(), otherOptions.getReportId());
+
+        renderGate.countDown();
+        awaitFinalStatus(first.getReportId());
+        awaitFinalStatus(otherOptions.getReportId());
+        verify(pdfGenerationService, times(2)).generateAssessmentReport(any(), any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void generateReport_IdenticalRequestAfterCompletion_ShouldReuseCachedRender() throws Exception {
+        // Given
+        renderGate.countDown();
+        ReportResponse first = reportService.generateReport("a1", null);
+        assertEquals(ReportStatus.COMPLETED, awaitFinalStatus(first.getReportId()));
+
+        Instant firstModified = reportService.getReportFile(first.getReportId()).lastModified();
+
+        // When
+        ReportResponse second = reportService.generateReport("a1", null);
+
+        // Then: Completed without a second render, same content
+        assertEquals(ReportStatus.COMPLETED, second.getStatus());
+        assertNotEquals(first.getReportId(), second.getReportId());
+        assertEquals(first.getContentHash(), second.getContentHash());
+        assertTrue(Files.isRegularFile(Path.of(second.getFilePath())));
+        verify(pdfGenerationService, times(1)).generateAssessmentReport(any(), any(), anyString(), anyString(), any());
+        // The shared file is not touched, so the earlier report keeps its validators
+        assertEquals(firstModified, reportService.getReportFile(first.getReportId()).lastModified());
+    }
+
+    @Test
+    void generateReport_CachedRenderWithPrecompression_ShouldLinkGzipVariant() throws Exception {
+        // Given
+        ReportService precompressing = new ReportService(assessmentService, pdfGenerationService,
+                mock(EmailService.class), reportJobExecutor,
+                new ReportMetadataStore(mock(ReportRepository.class), new ObjectMapper(), 100),
+                new ReportRenderCache(reportsDirectory.toString(), 1 << 20), new SimpleMeterRegistry(),
+                reportsDirectory.toString(), true);
+        renderGate.countDown();
+        ReportResponse first = precompressing.generateReport("a1", null);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (precompressing.getReportMetadata(first.getReportId()).getStatus() == ReportStatus.GENERATING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // When
+        ReportResponse second = precompressing.generateReport("a1", null);
+
+        // Then: The cached gzip sibling is linked instead of compressing the report again
+        Path firstGzip = precompressing.getReportFile(first.getReportId()).gzipPath();
+        Path secondGzip = precompressing.getReportFile(second.getReportId()).gzipPath();
+        assertNotNull(firstGzip);
+        assertNotNull(secondGzip);
+        assertTrue(Files.isSameFile(firstGzip, secondGzip));
+    }
+
+    @Test
+    void renderCache_ArtifactFromPreviousRun_ShouldHashOnFirstHit() throws Exception {
+        // Given: A render cached by a previous run
+        renderGate.countDown();
+        ReportResponse first = reportService.generateReport("a1", null);
+        assertEquals(ReportStatus.COMPLETED, awaitFinalStatus(first.getReportId()));
+        ReportRenderCache restarted = new ReportRenderCache(reportsDirectory.toString(), 1 << 20);
+        String key;
+        try (var artifacts = Files.list(reportsDirectory.resolve("render-cache"))) {
+            key = artifacts.findFirst().orElseThrow().getFileName().toString().replace(".pdf", "");
+        }
+
+        // When
+        ReportRenderCache.Hit hit = restarted.linkTo(key, reportsDirectory.resolve("copy.pdf"));
+
+        // Then
+        assertEquals(first.getContentHash(), hit.contentHash());
+    }
+
+    private ReportStatus awaitFinalStatus(String reportId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        ReportStatus status = reportService.getReportMetadata(reportId).getStatus();
+        while (status == ReportStatus.GENERATING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            status = reportService.getReportMetadata(reportId).getStatus();
+        }
+        return status;
+    }
+}
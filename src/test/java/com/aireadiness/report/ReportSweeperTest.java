@@ -0,0 +1,53 @@
+package com.aireadiness.report;
+
+import com.aireadiness.report.service.ReportMetadataStore;
+import com.aireadiness.report.service.ReportSweeper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the scheduled report cleanup
+ */
+class ReportSweeperTest {
+
+    @TempDir
+    Path reportsDirectory;
+
+    @Test
+    void sweep_OldFiles_ShouldDeleteOnlyReportFilesWithoutMetadata() throws IOException {
+        ReportMetadataStore reportStore = mock(ReportMetadataStore.class);
+        when(reportStore.findExpired(any())).thenReturn(List.of());
+        when(reportStore.exists("r_live")).thenReturn(true);
+
+        Path live = oldFile("report_r_live.pdf");
+        Path orphan = oldFile("report_r_gone.pdf");
+        Path orphanGzip = oldFile("report_r_gone.pdf.gz");
+        Path unrelated = oldFile("notes.txt");
+        Path recentOrphan = Files.createFile(reportsDirectory.resolve("report_r_new.pdf"));
+
+        new ReportSweeper(reportStore, reportsDirectory.toString(), 30, 31).sweep();
+
+        assertTrue(Files.exists(live));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanGzip));
+        assertTrue(Files.exists(unrelated));
+        assertTrue(Files.exists(recentOrphan));
+    }
+
+    private Path oldFile(String name) throws IOException {
+        Path file = Files.createFile(reportsDirectory.resolve(name));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(40))));
+        return file;
+    }
+}
@@ -0,0 +1,89 @@
+package com.aireadiness.telemetry;
+
+import com.aireadiness.telemetry.domain.Telemetry.EventType;
+import com.aireadiness.telemetry.domain.TelemetryEvent;
+import com.aireadiness.telemetry.repository.TelemetryBatchWriter;
+import com.aireadiness.telemetry.service.TelemetryPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the asynchronous telemetry pipeline
+ */
+class TelemetryPipelineTest {
+    
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    
+    private final TelemetryBatchWriter recordingWriter = new TelemetryBatchWriter(null, null, null) {
+        @Override
+        public void writeBatch(List<TelemetryEvent> events) {
+            batchSizes.add(events.size());
+        }
+    };
+    
+    @Test
+    void enqueue_BurstOfEvents_ShouldBeWrittenInBatches() throws Exception {
+        // Given
+        TelemetryPipeline pipeline = createPipeline(64, 10, TelemetryPipeline.DropPolicy.DROP_NEWEST);
+        pipeline.start();
+        
+        // When
+        for (int i = 0; i < 25; i++) {
+            assertTrue(pipeline.enqueue(createEvent()));
+        }
+        pipeline.stop();
+        
+        // Then: Everything flushed, no batch larger than the batch size
+        assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+    }
+    
+    @Test
+    void enqueue_FullBufferWithDropNewest_ShouldRejectAndCountDrops() {
+        // Given: Flusher not started, so the buffer fills up
+        TelemetryPipeline pipeline = createPipeline(4, 10, TelemetryPipeline.DropPolicy.DROP_NEWEST);
+        
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.enqueue(createEvent()));
+        }
+        boolean accepted = pipeline.enqueue(createEvent());
+        
+        // Then
+        assertFalse(accepted);
+        assertEquals(4, pipeline.getQueueDepth());
+        assertEquals(1.0, pipeline.getDroppedCount());
+    }
+    
+    @Test
+    void enqueue_FullBufferWithDropOldest_ShouldAcceptAndEvictOldest() {
+        // Given
+        TelemetryPipeline pipeline = createPipeline(4, 10, TelemetryPipeline.DropPolicy.DROP_OLDEST);
+        for (int i = 0; i < 4; i++) {
+            pipeline.enqueue(createEvent());
+        }
+        
+        // When
+        boolean accepted = pipeline.enqueue(createEvent());
+        
+        // Then
+        assertTrue(accepted);
+        assertEquals(4, pipeline.getQueueDepth());
+        assertEquals(1.0, pipeline.getDroppedCount());
+    }
+    
+    private TelemetryPipeline createPipeline(int capacity, int batchSize, TelemetryPipeline.DropPolicy dropPolicy) {
+        return new TelemetryPipeline(recordingWriter, new SimpleMeterRegistry(), capacity, batchSize, 50, 1, dropPolicy);
+    }
+    
+    private TelemetryEvent createEvent() {
+        return new TelemetryEvent("a_test", EventType.ASSESSMENT_STARTED, null, LocalDateTime.now());
+    }
+}
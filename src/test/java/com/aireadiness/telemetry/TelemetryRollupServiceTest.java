@@ -0,0 +1,94 @@
+package com.aireadiness.telemetry;
+
+import com.aireadiness.telemetry.domain.Telemetry.EventType;
+import com.aireadiness.telemetry.repository.TelemetryRollupRepository;
+import com.aireadiness.telemetry.service.TelemetryRollupService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for answering metric counts from rollup buckets
+ */
+class TelemetryRollupServiceTest {
+
+    private final List<String> queries = new ArrayList<>();
+
+    // One ASSESSMENT_STARTED per source, so the total shows which sources were summed
+    private final TelemetryRollupRepository stubRepository = new TelemetryRollupRepository(null) {
+        @Override
+        public Map<EventType, Long> sumMinuteBuckets(LocalDateTime from, LocalDateTime to) {
+            queries.add("minutes " + from + " " + to);
+            return Map.of(EventType.ASSESSMENT_STARTED, 1L);
+        }
+
+        @Override
+        public Map<LocalDateTime, Map<EventType, Long>> findHourBuckets(LocalDateTime from, LocalDateTime to) {
+            queries.add("hours " + from + " " + to);
+            Map<LocalDateTime, Map<EventType, Long>> buckets = new HashMap<>();
+            for (LocalDateTime hour = from; hour.isBefore(to); hour = hour.plusHours(1)) {
+                buckets.put(hour, Map.of(EventType.ASSESSMENT_STARTED, 10L));
+            }
+            return buckets;
+        }
+
+        @Override
+        public Map<EventType, Long> countRawBetween(LocalDateTime after, LocalDateTime before) {
+            queries.add("raw " + after + " " + before);
+            return Map.of(EventType.ASSESSMENT_STARTED, 100L);
+        }
+    };
+
+    private final TelemetryRollupService service = new TelemetryRollupService(stubRepository, 120, 7);
+
+    @Test
+    void countSince_WindowSpanningHours_ShouldCombineTailMinutesAndClosedHours() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 8, 30, 15);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 10, 0);
+
+        // When
+        Map<EventType, Long> counts = service.countSince(since, now);
+
+        // Then: raw tail + leading minutes + 3 closed hours (09..11) + open-hour minutes
+        assertEquals(100L + 1L + 30L + 1L, counts.get(EventType.ASSESSMENT_STARTED));
+        assertTrue(queries.contains("raw 2024-01-01T08:30:15 2024-01-01T08:31"));
+        assertTrue(queries.contains("hours 2024-01-01T09:00 2024-01-01T12:00"));
+    }
+
+    @Test
+    void countSince_RepeatedCall_ShouldServeClosedHoursFromMemory() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 8, 0);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 10, 0);
+        service.countSince(since, now);
+        queries.clear();
+
+        // When
+        Map<EventType, Long> counts = service.countSince(since, now);
+
+        // Then
+        assertEquals(1L + 40L, counts.get(EventType.ASSESSMENT_STARTED));
+        assertTrue(queries.stream().noneMatch(query -> query.startsWith("hours")));
+    }
+
+    @Test
+    void countSince_WithinOpenHour_ShouldUseMinuteBucketsOnly() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 12, 0);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 10, 0);
+
+        // When
+        Map<EventType, Long> counts = service.countSince(since, now);
+
+        // Then
+        assertEquals(1L, counts.get(EventType.ASSESSMENT_STARTED));
+        assertEquals(List.of("minutes 2024-01-01T12:00 2024-01-01T12:11"), queries);
+    }
+}